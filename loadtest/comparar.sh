@@ -0,0 +1,24 @@
+#!/usr/bin/env bash
+# Roda a mesma carga em cada perfil (servlet com threads de plataforma, servlet com threads virtuais e
+# reactive) e mostra throughput, p99 e erros lado a lado.
+#
+#   loadtest/comparar.sh --concorrencia=2000 --duracao=60
+#   PERFIS="default reactive" loadtest/comparar.sh --concorrencia=5000
+#
+# Com milhares de conexões, aumente o limite de descritores antes (ulimit -n 65536).
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PERFIS="${PERFIS:-default virtual reactive}"
+ARQUIVOS=()
+
+for perfil in $PERFIS; do
+    saida="target/loadtest-${perfil}.json"
+    # Um perfil reprovado nos limites de p99 ou erros não interrompe a comparação
+    PERFIL="$perfil" SAIDA="$saida" loadtest/run.sh "$@" || echo "Perfil ${perfil} terminou reprovado" >&2
+    ARQUIVOS+=("$saida")
+done
+
+LISTA="$(IFS=,; echo "${ARQUIVOS[*]}")"
+mvn -B -q -Ploadtest compile exec:exec -Dloadtest.args="--comparar=${LISTA}"
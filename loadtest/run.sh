@@ -0,0 +1,93 @@
+#!/usr/bin/env bash
+# Sobe a API (e um MongoDB descartável, se MONGODB_URI não for informado), roda o teste de carga e derruba tudo.
+# O MongoDB descartável padrão é o em memória (src/loadtest/.../MongoEmbutido): só precisa das dependências
+# do Maven, sem binário do mongod nem rede, então o resultado é reproduzível em qualquer máquina Linux.
+# MONGO=mongod usa o mongod instalado no PATH, para medir também o banco.
+#
+#   loadtest/run.sh                        # perfil padrão
+#   PERFIL=virtual loadtest/run.sh         # mesmo cenário com virtual threads
+#   loadtest/run.sh --duracao=120 --taxa=2000 --p99-max-ms=50
+#   LIMITE=true loadtest/run.sh --taxa=5000  # com o limitador de escritas ligado (429/503 contam como erro)
+#   MONGO=mongod loadtest/run.sh             # contra um mongod descartável em vez do MongoDB em memória
+#
+# Os argumentos extras são repassados ao LoadTest (ver src/loadtest/java).
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PERFIL="${PERFIL:-default}"
+PORTA="${PORTA:-8080}"
+PORTA_MONGO="${PORTA_MONGO:-27018}"
+MONGO="${MONGO:-memoria}"
+SAIDA="${SAIDA:-target/loadtest-${PERFIL}.json}"
+
+PIDS=()
+TMP_MONGO=""
+
+limpar() {
+    for pid in ${PIDS[@]+"${PIDS[@]}"}; do
+        kill "$pid" 2>/dev/null || true
+        wait "$pid" 2>/dev/null || true
+    done
+    if [[ -n "$TMP_MONGO" ]]; then
+        rm -rf "$TMP_MONGO"
+    fi
+}
+trap limpar EXIT
+
+mkdir -p target
+
+if [[ -n "${MONGODB_URI:-}" ]]; then
+    MONGO="externo"
+else
+    if [[ "$MONGO" == "mongod" ]]; then
+        TMP_MONGO="$(mktemp -d)"
+        mongod --dbpath "$TMP_MONGO" --port "$PORTA_MONGO" --bind_ip 127.0.0.1 --quiet \
+            --logpath "$TMP_MONGO/mongod.log" &
+        PIDS+=($!)
+    else
+        mvn -B -q -Ploadtest compile dependency:build-classpath -Dmdep.outputFile=target/loadtest-classpath.txt
+        java -classpath "target/loadtest-classes:target/classes:$(cat target/loadtest-classpath.txt)" \
+            com.catarse.backend.loadtest.MongoEmbutido --porta="$PORTA_MONGO" > target/loadtest-mongo.log 2>&1 &
+        PIDS+=($!)
+    fi
+
+    for _ in $(seq 1 60); do
+        if (exec 3<>"/dev/tcp/127.0.0.1/${PORTA_MONGO}") 2>/dev/null; then
+            break
+        fi
+        kill -0 "${PIDS[-1]}" 2>/dev/null || break
+        sleep 1
+    done
+    (exec 3<>"/dev/tcp/127.0.0.1/${PORTA_MONGO}") 2>/dev/null \
+        || { echo "MongoDB não subiu na porta ${PORTA_MONGO}; veja target/loadtest-mongo.log" >&2; exit 1; }
+    export MONGODB_URI="mongodb://127.0.0.1:${PORTA_MONGO}/catarse-loadtest"
+fi
+
+mvn -B -q -DskipTests package
+JAR="$(ls target/*.jar | grep -v '\.original$' | head -n 1)"
+
+ARGS_PERFIL=()
+if [[ "$PERFIL" != "default" ]]; then
+    ARGS_PERFIL+=("--spring.profiles.active=${PERFIL}")
+fi
+
+java -jar "$JAR" \
+    --server.port="$PORTA" \
+    --spring.data.mongodb.uri="$MONGODB_URI" \
+    --catarse.diagnostico.alocacao.enabled=true \
+    --catarse.limite.enabled="${LIMITE:-false}" \
+    ${ARGS_PERFIL[@]+"${ARGS_PERFIL[@]}"} > "target/loadtest-${PERFIL}-app.log" 2>&1 &
+PIDS+=($!)
+
+URL="http://localhost:${PORTA}/api"
+for _ in $(seq 1 60); do
+    if curl -fs "${URL}/actuator/health" >/dev/null; then
+        break
+    fi
+    sleep 1
+done
+curl -fs "${URL}/actuator/health" >/dev/null || { echo "API não subiu; veja target/loadtest-${PERFIL}-app.log" >&2; exit 1; }
+
+mvn -B -q -Ploadtest compile exec:exec \
+    -Dloadtest.args="--url=${URL} --saida=${SAIDA} --perfil=${PERFIL} --mongo=${MONGO} $*"
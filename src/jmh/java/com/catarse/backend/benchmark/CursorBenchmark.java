@@ -0,0 +1,44 @@
+package com.catarse.backend.benchmark;
+
+import com.catarse.backend.dto.CursorProjeto;
+import com.catarse.backend.model.Projeto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CursorBenchmark {
+
+    private Projeto projeto;
+    private String token;
+
+    @Setup
+    public void setup() {
+        projeto = Fixtures.projetos(1, 3).get(0);
+        token = CursorProjeto.apos(projeto).codificar();
+    }
+
+    @Benchmark
+    public String codificar() {
+        return CursorProjeto.apos(projeto).codificar();
+    }
+
+    @Benchmark
+    public CursorProjeto decodificar() {
+        return CursorProjeto.decodificar(token);
+    }
+}
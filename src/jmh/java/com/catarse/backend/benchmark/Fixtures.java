@@ -0,0 +1,83 @@
+package com.catarse.backend.benchmark;
+
+import com.catarse.backend.dto.ProjetoRequest;
+import com.catarse.backend.model.Projeto;
+import org.bson.types.ObjectId;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Dados próximos dos reais: descrição perto do limite de 5000 caracteres e várias tags por projeto
+final class Fixtures {
+
+    private static final String[] CATEGORIAS = {"Tecnologia", "Jogos", "Música", "Arte", "Educação", "Quadrinhos"};
+    private static final String[] TAGS = {"jogo", "tabuleiro", "rpg", "cartas", "indie", "brasil", "livro",
+            "hq", "album", "vinil", "robotica", "maker", "open-source", "escola", "cinema", "documentario"};
+    private static final String PARAGRAFO = "Nosso projeto nasceu da vontade de criar algo feito à mão, com "
+            + "cuidado em cada etapa da produção. Com o apoio da comunidade vamos financiar a primeira tiragem, "
+            + "pagar artistas independentes e entregar recompensas exclusivas para quem acreditar na ideia. ";
+
+    private Fixtures() {
+    }
+
+    static List<Projeto> projetos(int quantidade, long semente) {
+        Random random = new Random(semente);
+        List<Projeto> projetos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            projetos.add(projeto(random, i));
+        }
+        return projetos;
+    }
+
+    static Projeto projeto(Random random, int i) {
+        LocalDateTime criacao = LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(random.nextInt(500_000));
+        return Projeto.builder()
+                .id(new ObjectId().toHexString())
+                .titulo("Projeto de financiamento coletivo número " + i)
+                .descricao(descricao(4_500))
+                .categoria(CATEGORIAS[random.nextInt(CATEGORIAS.length)])
+                .metaFinanceira((1_000 + random.nextInt(200_000)) * 100L)
+                .valorArrecadado(random.nextInt(20_000_000))
+                .dataLimite(LocalDate.of(2026, 12, 31))
+                .criadorId("criador-" + random.nextInt(1_000))
+                .tags(tags(random, 3 + random.nextInt(6)))
+                .status(Projeto.StatusProjeto.EM_ANDAMENTO)
+                .imagemUrl("https://cdn.exemplo.com/projetos/" + i + "/capa.jpg")
+                .dataCriacao(criacao)
+                .dataAtualizacao(criacao.plusDays(random.nextInt(30)))
+                .build();
+    }
+
+    static ProjetoRequest request(int i) {
+        ProjetoRequest request = new ProjetoRequest();
+        request.setTitulo("Projeto de financiamento coletivo número " + i);
+        request.setDescricao(descricao(4_500));
+        request.setCategoria("Jogos");
+        request.setMetaFinanceira(new BigDecimal("25000.00"));
+        request.setDataLimite(LocalDate.of(2026, 12, 31));
+        request.setCriadorId("criador-" + i);
+        request.setTags(List.of("jogo", "tabuleiro", "brasil", "indie", "cartas"));
+        request.setImagemUrl("https://cdn.exemplo.com/projetos/" + i + "/capa.jpg");
+        return request;
+    }
+
+    private static List<String> tags(Random random, int quantidade) {
+        List<String> tags = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            tags.add(TAGS[random.nextInt(TAGS.length)]);
+        }
+        return tags;
+    }
+
+    private static String descricao(int tamanho) {
+        StringBuilder descricao = new StringBuilder(tamanho);
+        while (descricao.length() < tamanho) {
+            descricao.append(PARAGRAFO);
+        }
+        return descricao.substring(0, tamanho);
+    }
+}
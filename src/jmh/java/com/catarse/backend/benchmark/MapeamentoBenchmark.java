@@ -0,0 +1,53 @@
+package com.catarse.backend.benchmark;
+
+import com.catarse.backend.dto.ProjetoRequest;
+import com.catarse.backend.dto.ProjetoResponse;
+import com.catarse.backend.model.Projeto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapeamentoBenchmark {
+
+    private Projeto projeto;
+    private ProjetoRequest request;
+    private List<Projeto> pagina;
+
+    @Setup
+    public void setup() {
+        pagina = Fixtures.projetos(20, 42);
+        projeto = pagina.get(0);
+        request = Fixtures.request(1);
+    }
+
+    @Benchmark
+    public ProjetoResponse fromEntity() {
+        return ProjetoResponse.fromEntity(projeto);
+    }
+
+    @Benchmark
+    public List<ProjetoResponse> fromEntityPagina() {
+        return pagina.stream().map(ProjetoResponse::fromEntity).toList();
+    }
+
+    @Benchmark
+    public Projeto toEntity() {
+        return request.toEntity();
+    }
+}
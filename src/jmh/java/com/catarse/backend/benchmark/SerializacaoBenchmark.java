@@ -0,0 +1,87 @@
+package com.catarse.backend.benchmark;
+
+import com.catarse.backend.dto.CursorPage;
+import com.catarse.backend.dto.CursorProjeto;
+import com.catarse.backend.dto.ProjetoResponse;
+import com.catarse.backend.model.Projeto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializacaoBenchmark {
+
+    @Param({"10", "50"})
+    public int tamanhoPagina;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter ndjson;
+    private List<Projeto> projetos;
+    private Page<ProjetoResponse> pagina;
+    private CursorPage<ProjetoResponse> paginaCursor;
+
+    @Setup
+    public void setup() {
+        // Mesma configuração padrão do ObjectMapper do Spring Boot
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        ndjson = objectMapper.writerFor(ProjetoResponse.class)
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        projetos = Fixtures.projetos(tamanhoPagina, 7);
+        List<ProjetoResponse> conteudo = projetos.stream().map(ProjetoResponse::fromEntity).toList();
+        pagina = new PageImpl<>(conteudo, PageRequest.of(3, tamanhoPagina, Sort.by("dataCriacao")), 100_000);
+        paginaCursor = new CursorPage<>(conteudo, CursorProjeto.apos(projetos.get(projetos.size() - 1)).codificar());
+    }
+
+    @Benchmark
+    public byte[] page() throws IOException {
+        return objectMapper.writeValueAsBytes(pagina);
+    }
+
+    @Benchmark
+    public byte[] cursorPage() throws IOException {
+        return objectMapper.writeValueAsBytes(paginaCursor);
+    }
+
+    // Caminho da exportação: mapeamento + uma linha NDJSON por projeto
+    @Benchmark
+    public void exportacaoNdjson() throws IOException {
+        try (SequenceWriter linhas = ndjson.writeValues(OutputStream.nullOutputStream())) {
+            for (Projeto projeto : projetos) {
+                linhas.write(ProjetoResponse.fromEntity(projeto));
+            }
+        }
+    }
+}
@@ -0,0 +1,488 @@
+package com.catarse.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Carga mista contra a API em execução. Uso:
+//   mvn -Ploadtest compile exec:exec -Dloadtest.args="--url=http://localhost:8080/api --duracao=60"
+// Com --taxa > 0 a carga é em malha aberta e a latência é medida a partir do horário planejado de
+// cada requisição, para não esconder filas (omissão coordenada).
+public class LoadTest {
+
+    private static final String[] CATEGORIAS = {"Tecnologia", "Jogos", "Música", "Arte"};
+    private static final int PARALELISMO_SEMEADURA = 16;
+
+    enum Operacao {
+        BUSCAR_POR_ID("GET", "/projetos/{id}", 50),
+        LISTAR("GET", "/projetos/cursor", 15),
+        BUSCAR_CATEGORIA("GET", "/projetos/categoria/{categoria}", 10),
+        DOAR("POST", "/projetos/{id}/doacao", 15),
+        CRIAR("POST", "/projetos", 10);
+
+        final String metodo;
+        final String padrao;
+        final int peso;
+
+        Operacao(String metodo, String padrao, int peso) {
+            this.metodo = metodo;
+            this.padrao = padrao;
+            this.peso = peso;
+        }
+    }
+
+    record Config(String url, Duration aquecimento, Duration duracao, int concorrencia, double taxa,
+                  int projetos, Path saida, double p99MaximoMs, double errosMaximoPct, String perfil, String mongo) {
+
+        static Config de(String[] args) {
+            Map<String, String> valores = new HashMap<>();
+            for (String arg : args) {
+                int igual = arg.indexOf('=');
+                if (arg.startsWith("--") && igual > 2) {
+                    valores.put(arg.substring(2, igual), arg.substring(igual + 1));
+                }
+            }
+            return new Config(
+                    valores.getOrDefault("url", "http://localhost:8080/api"),
+                    Duration.ofSeconds(Long.parseLong(valores.getOrDefault("aquecimento", "15"))),
+                    Duration.ofSeconds(Long.parseLong(valores.getOrDefault("duracao", "60"))),
+                    Integer.parseInt(valores.getOrDefault("concorrencia", "64")),
+                    Double.parseDouble(valores.getOrDefault("taxa", "0")),
+                    Integer.parseInt(valores.getOrDefault("projetos", "500")),
+                    Path.of(valores.getOrDefault("saida", "target/loadtest-result.json")),
+                    Double.parseDouble(valores.getOrDefault("p99-max-ms", "0")),
+                    Double.parseDouble(valores.getOrDefault("erros-max-pct", "1.0")),
+                    // Só identificam o resultado gravado; quem sobe a API e o MongoDB é o run.sh
+                    valores.getOrDefault("perfil", "default"),
+                    valores.getOrDefault("mongo", "externo"));
+        }
+    }
+
+    private static final class Estatisticas {
+        final Recorder latencias = new Recorder(3);
+        final LongAdder erros = new LongAdder();
+    }
+
+    private final Config config;
+    private final HttpClient http;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Operacao, Estatisticas> estatisticas = new EnumMap<>(Operacao.class);
+    private final List<String> ids = new ArrayList<>();
+    private final String execucao = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong sequencia = new AtomicLong();
+    private final int pesoTotal;
+
+    LoadTest(Config config) {
+        this.config = config;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        int peso = 0;
+        for (Operacao operacao : Operacao.values()) {
+            estatisticas.put(operacao, new Estatisticas());
+            peso += operacao.peso;
+        }
+        this.pesoTotal = peso;
+    }
+
+    public static void main(String[] args) throws Exception {
+        for (String arg : args) {
+            if (arg.startsWith("--comparar=")) {
+                System.exit(comparar(arg.substring("--comparar=".length()).split(",")));
+            }
+        }
+
+        Config config = Config.de(args);
+        int codigo = new LoadTest(config).executar();
+        System.exit(codigo);
+    }
+
+    int executar() throws Exception {
+        System.out.printf("Carga em %s: %d trabalhadores, %s%n", config.url(), config.concorrencia(),
+                config.taxa() > 0 ? String.format("%.0f req/s planejadas", config.taxa()) : "malha fechada");
+
+        semear();
+
+        System.out.printf("Aquecimento de %ds%n", config.aquecimento().toSeconds());
+        rodar(config.aquecimento());
+        estatisticas.values().forEach(e -> {
+            e.latencias.getIntervalHistogram();
+            e.erros.reset();
+        });
+
+        Map<Operacao, double[]> alocacaoAntes = lerAlocacao();
+        double alocacaoProcessoAntes = lerAlocacaoProcesso();
+        System.out.printf("Medição de %ds%n", config.duracao().toSeconds());
+        long inicio = System.nanoTime();
+        rodar(config.duracao());
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        Map<Operacao, double[]> alocacaoDepois = lerAlocacao();
+        double alocacaoProcesso = lerAlocacaoProcesso() - alocacaoProcessoAntes;
+
+        return relatar(segundos, alocacaoAntes, alocacaoDepois, alocacaoProcesso);
+    }
+
+    // Paralelismo limitado: a semeadura não é medida e não deve falhar por saturar a API antes da carga.
+    // Um projeto que não foi criado ou publicado interrompe o teste, em vez de virar um id vazio na carga
+    private void semear() throws Exception {
+        System.out.printf("Criando e publicando %d projetos%n", config.projetos());
+        try (ExecutorService executor = Executors.newFixedThreadPool(PARALELISMO_SEMEADURA)) {
+            List<java.util.concurrent.Future<String>> criados = new ArrayList<>();
+            for (int i = 0; i < config.projetos(); i++) {
+                criados.add(executor.submit(() -> {
+                    HttpResponse<String> criado = exigirSucesso(enviar(requisicaoCriar()), "criar");
+                    String id = objectMapper.readTree(criado.body()).path("id").asText();
+                    exigirSucesso(enviar(HttpRequest.newBuilder(uri("/projetos/" + id + "/publicar"))
+                            .POST(HttpRequest.BodyPublishers.noBody()).build()), "publicar");
+                    return id;
+                }));
+            }
+            for (java.util.concurrent.Future<String> criado : criados) {
+                ids.add(criado.get());
+            }
+        }
+    }
+
+    private static HttpResponse<String> exigirSucesso(HttpResponse<String> resposta, String etapa) {
+        if (resposta.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Semeadura falhou ao " + etapa + " projeto: HTTP "
+                    + resposta.statusCode() + " " + resposta.body());
+        }
+        return resposta;
+    }
+
+    private void rodar(Duration duracao) throws InterruptedException {
+        long fim = System.nanoTime() + duracao.toNanos();
+        long intervalo = config.taxa() > 0 ? (long) (1e9 * config.concorrencia() / config.taxa()) : 0;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < config.concorrencia(); t++) {
+                long deslocamento = intervalo * t / Math.max(config.concorrencia(), 1);
+                executor.submit(() -> trabalhar(fim, intervalo, deslocamento));
+            }
+        }
+    }
+
+    private void trabalhar(long fim, long intervalo, long deslocamento) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long proximo = System.nanoTime() + deslocamento;
+
+        while (System.nanoTime() < fim) {
+            long inicio;
+            if (intervalo > 0) {
+                inicio = proximo;
+                proximo += intervalo;
+                long espera = inicio - System.nanoTime();
+                if (espera > 0) {
+                    LockSupport.parkNanos(espera);
+                }
+            } else {
+                inicio = System.nanoTime();
+            }
+
+            Operacao operacao = sortear(random);
+            boolean sucesso;
+            try {
+                HttpResponse<String> resposta = enviar(requisicao(operacao, random));
+                sucesso = resposta.statusCode() / 100 == 2;
+            } catch (IOException e) {
+                sucesso = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            Estatisticas e = estatisticas.get(operacao);
+            e.latencias.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - inicio));
+            if (!sucesso) {
+                e.erros.increment();
+            }
+        }
+    }
+
+    private Operacao sortear(ThreadLocalRandom random) {
+        int sorteio = random.nextInt(pesoTotal);
+        for (Operacao operacao : Operacao.values()) {
+            sorteio -= operacao.peso;
+            if (sorteio < 0) {
+                return operacao;
+            }
+        }
+        return Operacao.BUSCAR_POR_ID;
+    }
+
+    private HttpRequest requisicao(Operacao operacao, ThreadLocalRandom random) throws IOException {
+        String id = ids.get(random.nextInt(ids.size()));
+        return switch (operacao) {
+            case BUSCAR_POR_ID -> HttpRequest.newBuilder(uri("/projetos/" + id)).GET().build();
+            case LISTAR -> HttpRequest.newBuilder(uri("/projetos/cursor?tamanho=20")).GET().build();
+            case BUSCAR_CATEGORIA -> HttpRequest.newBuilder(uri("/projetos/categoria/"
+                    + codificar(CATEGORIAS[random.nextInt(CATEGORIAS.length)]) + "?size=10")).GET().build();
+            case DOAR -> HttpRequest.newBuilder(uri("/projetos/" + id + "/doacao?valor=10.00"))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build();
+            case CRIAR -> requisicaoCriar();
+        };
+    }
+
+    private HttpRequest requisicaoCriar() throws IOException {
+        long n = sequencia.incrementAndGet();
+        Map<String, Object> corpo = new LinkedHashMap<>();
+        corpo.put("titulo", "Carga " + execucao + " " + n);
+        corpo.put("descricao", "Projeto criado pelo teste de carga para medir a API. ".repeat(20));
+        corpo.put("categoria", CATEGORIAS[(int) (n % CATEGORIAS.length)]);
+        // Meta alta para que as doações nunca concluam o projeto durante a medição
+        corpo.put("metaFinanceira", 100_000_000);
+        corpo.put("dataLimite", LocalDate.now().plusYears(1).toString());
+        corpo.put("criadorId", "carga-" + (n % 100));
+        corpo.put("tags", List.of("carga", "teste", "tag" + (n % 20)));
+        corpo.put("imagemUrl", "https://exemplo.com/carga/" + n + ".jpg");
+
+        return HttpRequest.newBuilder(uri("/projetos"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(corpo)))
+                .build();
+    }
+
+    private HttpResponse<String> enviar(HttpRequest requisicao) throws IOException, InterruptedException {
+        return http.send(requisicao, HttpResponse.BodyHandlers.ofString());
+    }
+
+    // Bytes alocados no servidor por endpoint (filtro AlocacaoPorRequisicaoFilter): {contagem, total}.
+    // Só existe na pilha servlet com threads de plataforma; nos perfis virtual e reactive fica vazio
+    private Map<Operacao, double[]> lerAlocacao() {
+        Map<Operacao, double[]> alocacao = new EnumMap<>(Operacao.class);
+        for (Operacao operacao : Operacao.values()) {
+            try {
+                HttpResponse<String> resposta = enviar(HttpRequest.newBuilder(uri("/actuator/metrics/catarse.http.alocacao"
+                        + "?tag=" + codificar("uri:" + operacao.padrao)
+                        + "&tag=" + codificar("method:" + operacao.metodo))).GET().build());
+                if (resposta.statusCode() != 200) {
+                    continue;
+                }
+
+                double contagem = 0;
+                double total = 0;
+                for (JsonNode medida : objectMapper.readTree(resposta.body()).path("measurements")) {
+                    switch (medida.path("statistic").asText()) {
+                        case "COUNT" -> contagem = medida.path("value").asDouble();
+                        case "TOTAL" -> total = medida.path("value").asDouble();
+                        default -> {
+                        }
+                    }
+                }
+                alocacao.put(operacao, new double[]{contagem, total});
+            } catch (IOException e) {
+                // Métrica indisponível: o relatório sai sem a coluna de alocação
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return alocacao;
+    }
+
+    // Bytes alocados pela JVM inteira (jvm.gc.memory.allocated, medido a cada coleta da geração jovem):
+    // vale para qualquer perfil e inclui o trabalho de fundo, não só as requisições. NaN se indisponível
+    private double lerAlocacaoProcesso() {
+        try {
+            HttpResponse<String> resposta = enviar(HttpRequest.newBuilder(uri("/actuator/metrics/jvm.gc.memory.allocated"))
+                    .GET().build());
+            if (resposta.statusCode() == 200) {
+                for (JsonNode medida : objectMapper.readTree(resposta.body()).path("measurements")) {
+                    if ("COUNT".equals(medida.path("statistic").asText())) {
+                        return medida.path("value").asDouble();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // Sem a métrica o relatório sai sem a alocação do processo
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Double.NaN;
+    }
+
+    private int relatar(double segundos, Map<Operacao, double[]> alocacaoAntes,
+                        Map<Operacao, double[]> alocacaoDepois, double alocacaoProcesso) throws IOException {
+        List<Map<String, Object>> linhas = new ArrayList<>();
+        boolean reprovado = false;
+        long requisicoes = 0;
+
+        System.out.printf("%n%-17s %9s %9s %8s %8s %8s %8s %8s %7s %12s %9s%n", "endpoint", "req", "req/s",
+                "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms", "erros", "aloc B/req", "aloc MB/s");
+
+        for (Operacao operacao : Operacao.values()) {
+            Estatisticas e = estatisticas.get(operacao);
+            Histogram h = e.latencias.getIntervalHistogram();
+            long total = h.getTotalCount();
+            requisicoes += total;
+            long erros = e.erros.sum();
+            double p99 = h.getValueAtPercentile(99) / 1000.0;
+
+            double alocPorReq = Double.NaN;
+            double alocMbPorSeg = Double.NaN;
+            double[] antes = alocacaoAntes.get(operacao);
+            double[] depois = alocacaoDepois.get(operacao);
+            if (depois != null) {
+                double contagem = depois[0] - (antes != null ? antes[0] : 0);
+                double bytes = depois[1] - (antes != null ? antes[1] : 0);
+                if (contagem > 0) {
+                    alocPorReq = bytes / contagem;
+                    alocMbPorSeg = bytes / segundos / (1024 * 1024);
+                }
+            }
+
+            System.out.printf("%-17s %9d %9.1f %8.2f %8.2f %8.2f %8.2f %8.2f %7d %12s %9s%n",
+                    operacao, total, total / segundos,
+                    h.getValueAtPercentile(50) / 1000.0, h.getValueAtPercentile(90) / 1000.0, p99,
+                    h.getValueAtPercentile(99.9) / 1000.0, h.getMaxValue() / 1000.0, erros,
+                    formatar(alocPorReq, "%.0f"), formatar(alocMbPorSeg, "%.1f"));
+
+            Map<String, Object> linha = new LinkedHashMap<>();
+            linha.put("endpoint", operacao.name());
+            linha.put("metodo", operacao.metodo);
+            linha.put("padrao", operacao.padrao);
+            linha.put("requisicoes", total);
+            linha.put("throughput", total / segundos);
+            linha.put("p50Ms", h.getValueAtPercentile(50) / 1000.0);
+            linha.put("p90Ms", h.getValueAtPercentile(90) / 1000.0);
+            linha.put("p99Ms", p99);
+            linha.put("p999Ms", h.getValueAtPercentile(99.9) / 1000.0);
+            linha.put("maxMs", h.getMaxValue() / 1000.0);
+            linha.put("erros", erros);
+            linha.put("alocacaoBytesPorRequisicao", Double.isNaN(alocPorReq) ? null : alocPorReq);
+            linha.put("alocacaoMbPorSegundo", Double.isNaN(alocMbPorSeg) ? null : alocMbPorSeg);
+            linhas.add(linha);
+
+            if (config.p99MaximoMs() > 0 && p99 > config.p99MaximoMs()) {
+                System.out.printf("REPROVADO: %s p99 %.2f ms acima do limite de %.2f ms%n", operacao, p99, config.p99MaximoMs());
+                reprovado = true;
+            }
+            if (total > 0 && 100.0 * erros / total > config.errosMaximoPct()) {
+                System.out.printf("REPROVADO: %s com %.2f%% de erros%n", operacao, 100.0 * erros / total);
+                reprovado = true;
+            }
+        }
+
+        Double alocProcessoPorReq = null;
+        Double alocProcessoMbPorSeg = null;
+        if (!Double.isNaN(alocacaoProcesso) && requisicoes > 0) {
+            alocProcessoPorReq = alocacaoProcesso / requisicoes;
+            alocProcessoMbPorSeg = alocacaoProcesso / segundos / (1024 * 1024);
+            System.out.printf("%nAlocação do processo: %.0f B/req, %.1f MB/s (todas as threads, inclui trabalho de fundo)%n",
+                    alocProcessoPorReq, alocProcessoMbPorSeg);
+        }
+        if (alocacaoDepois.isEmpty()) {
+            System.out.println("Alocação por endpoint indisponível: só é medida na pilha servlet com threads de plataforma");
+        }
+
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("url", config.url());
+        resultado.put("perfil", config.perfil());
+        resultado.put("mongo", config.mongo());
+        // Carga, API e MongoDB costumam dividir a mesma máquina: os números só se comparam no mesmo ambiente
+        resultado.put("processadores", Runtime.getRuntime().availableProcessors());
+        resultado.put("java", System.getProperty("java.version"));
+        resultado.put("concorrencia", config.concorrencia());
+        resultado.put("taxaPlanejada", config.taxa());
+        resultado.put("duracaoSegundos", segundos);
+        resultado.put("alocacaoProcessoBytesPorRequisicao", alocProcessoPorReq);
+        resultado.put("alocacaoProcessoMbPorSegundo", alocProcessoMbPorSeg);
+        resultado.put("endpoints", linhas);
+
+        if (config.saida().getParent() != null) {
+            Files.createDirectories(config.saida().getParent());
+        }
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(config.saida().toFile(), resultado);
+        System.out.printf("%nResultado gravado em %s%n", config.saida());
+
+        return reprovado ? 1 : 0;
+    }
+
+    // Resultados gravados lado a lado, por exemplo a mesma carga nos perfis servlet e reactive
+    static int comparar(String[] arquivos) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, JsonNode> resultados = new LinkedHashMap<>();
+        for (String arquivo : arquivos) {
+            String nome = Path.of(arquivo).getFileName().toString().replaceFirst("\\.json$", "");
+            resultados.put(nome, objectMapper.readTree(Path.of(arquivo).toFile()));
+        }
+
+        System.out.printf("%-17s", "");
+        resultados.forEach((nome, resultado) -> System.out.printf(" | %-30s",
+                nome + " (" + resultado.path("concorrencia").asInt() + " conexões)"));
+        System.out.printf("%n%-17s", "endpoint");
+        resultados.keySet().forEach(nome -> System.out.printf(" | %10s %9s %9s", "req/s", "p99 ms", "erros"));
+        System.out.println();
+
+        for (Operacao operacao : Operacao.values()) {
+            System.out.printf("%-17s", operacao);
+            for (JsonNode resultado : resultados.values()) {
+                JsonNode linha = null;
+                for (JsonNode endpoint : resultado.path("endpoints")) {
+                    if (operacao.name().equals(endpoint.path("endpoint").asText())) {
+                        linha = endpoint;
+                    }
+                }
+                if (linha == null) {
+                    System.out.printf(" | %10s %9s %9s", "-", "-", "-");
+                } else {
+                    System.out.printf(" | %10.1f %9.2f %9d", linha.path("throughput").asDouble(),
+                            linha.path("p99Ms").asDouble(), linha.path("erros").asLong());
+                }
+            }
+            System.out.println();
+        }
+
+        System.out.printf("%-17s", "aloc. processo");
+        for (JsonNode resultado : resultados.values()) {
+            JsonNode porReq = resultado.path("alocacaoProcessoBytesPorRequisicao");
+            JsonNode mbPorSeg = resultado.path("alocacaoProcessoMbPorSegundo");
+            System.out.printf(" | %-30s", porReq.isNumber()
+                    ? String.format("%.0f B/req, %.1f MB/s", porReq.asDouble(), mbPorSeg.asDouble()) : "-");
+        }
+        System.out.println();
+        return 0;
+    }
+
+    private static String formatar(double valor, String formato) {
+        return Double.isNaN(valor) ? "-" : String.format(formato, valor);
+    }
+
+    private URI uri(String caminho) {
+        return URI.create(config.url() + caminho);
+    }
+
+    private static String codificar(String valor) {
+        return URLEncoder.encode(valor, StandardCharsets.UTF_8);
+    }
+}
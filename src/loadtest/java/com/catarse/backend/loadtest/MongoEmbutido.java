@@ -0,0 +1,36 @@
+package com.catarse.backend.loadtest;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+import java.util.concurrent.CountDownLatch;
+
+// MongoDB em memória para rodar o teste de carga sem mongod instalado nem acesso à rede: um servidor
+// do protocolo do MongoDB em Java (mongo-java-server), resolvido pelo Maven como qualquer dependência.
+// loadtest/run.sh usa quando não há MONGODB_URI nem mongod no PATH.
+//   java -cp ... com.catarse.backend.loadtest.MongoEmbutido --porta=27018
+// Mede a API e a aplicação, não o MongoDB: as latências de escrita não valem como referência de produção.
+public class MongoEmbutido {
+
+    public static void main(String[] args) throws InterruptedException {
+        int porta = 27018;
+        for (String arg : args) {
+            if (arg.startsWith("--porta=")) {
+                porta = Integer.parseInt(arg.substring("--porta=".length()));
+            }
+        }
+
+        MongoServer servidor = new MongoServer(new MemoryBackend());
+        servidor.bind("127.0.0.1", porta);
+
+        // run.sh encerra com SIGTERM: o hook fecha o servidor
+        CountDownLatch encerrado = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            servidor.shutdownNow();
+            encerrado.countDown();
+        }));
+
+        System.out.println("MongoDB em memória em mongodb://127.0.0.1:" + porta);
+        encerrado.await();
+    }
+}
@@ -0,0 +1,34 @@
+package com.catarse.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "catarse.doacao")
+public class DoacaoProperties {
+
+    // atomico | write-behind | ledger
+    private String modo = "atomico";
+
+    private WriteBehind writeBehind = new WriteBehind();
+    private Ledger ledger = new Ledger();
+
+    @Data
+    public static class WriteBehind {
+        private long intervaloFlushMs = 200;
+        private String diretorioJournal = "data/doacoes";
+        private boolean sincronizarJournal = true;
+        private String instancia = "local";
+    }
+
+    @Data
+    public static class Ledger {
+        private long intervaloRollupMs = 500;
+        private int tamanhoLote = 5_000;
+        // Validade da trava do rollup entre instâncias; renovada a cada lote
+        private Duration duracaoTrava = Duration.ofMinutes(1);
+        private String instancia = "local";
+    }
+}
@@ -0,0 +1,18 @@
+package com.catarse.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "catarse.finalizacao")
+public class FinalizacaoProperties {
+
+    private boolean enabled = true;
+    private long intervaloMs = 60_000;
+    private int tamanhoLote = 500;
+    // Validade da trava entre instâncias; renovada a cada lote
+    private Duration duracaoTrava = Duration.ofMinutes(2);
+    private String instancia = "local";
+}
@@ -0,0 +1,12 @@
+package com.catarse.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "catarse.importacao")
+public class ImportacaoProperties {
+
+    // Documentos por insertMany
+    private int tamanhoLote = 1000;
+}
@@ -0,0 +1,15 @@
+package com.catarse.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "catarse.indice-tags")
+public class IndiceTagsProperties {
+
+    private boolean enabled = true;
+    // Aplica escritas feitas por outras instâncias (por data_atualizacao)
+    private long intervaloSincronizacaoMs = 30_000;
+    // Recarga completa, que também remove projetos apagados em outras instâncias
+    private long intervaloReconstrucaoMs = 3_600_000;
+}
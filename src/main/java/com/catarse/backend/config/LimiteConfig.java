@@ -0,0 +1,42 @@
+package com.catarse.backend.config;
+
+import com.catarse.backend.metrics.LatenciaMongo;
+import com.catarse.backend.web.limite.LimiteRequisicoesInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(name = "catarse.limite.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LimiteConfig implements WebMvcConfigurer {
+
+    private final LimiteProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // Alimenta o limite de concorrência com a latência observada pelo driver
+    @Bean
+    public LatenciaMongo latenciaMongo() {
+        return new LatenciaMongo();
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer latenciaPorComando(LatenciaMongo latenciaMongo) {
+        return builder -> builder.addCommandListener(latenciaMongo);
+    }
+
+    @Bean
+    public LimiteRequisicoesInterceptor limiteRequisicoesInterceptor() {
+        return new LimiteRequisicoesInterceptor(properties, latenciaMongo(), meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(limiteRequisicoesInterceptor()).addPathPatterns("/projetos/**");
+    }
+}
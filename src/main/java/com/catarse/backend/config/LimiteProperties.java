@@ -0,0 +1,42 @@
+package com.catarse.backend.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "catarse.limite")
+public class LimiteProperties {
+
+    private boolean enabled = true;
+    // Escritas por cliente (endereço remoto) e doações por projeto
+    private Balde cliente = new Balde(20, 10);
+    private Balde projeto = new Balde(200, 100);
+    // Teto de baldes em memória por limitador; os menos usados são descartados
+    private long maximoChaves = 100_000;
+    private Concorrencia concorrencia = new Concorrencia();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Balde {
+        // Rajada máxima
+        private int capacidade;
+        private double reposicaoPorSegundo;
+    }
+
+    // Limite de escritas simultâneas ajustado pela latência do MongoDB (aumento aditivo, redução multiplicativa)
+    @Data
+    public static class Concorrencia {
+        private boolean enabled = true;
+        private int inicial = 64;
+        private int minimo = 4;
+        private int maximo = 512;
+        private Duration latenciaAlvo = Duration.ofMillis(25);
+        private Duration intervaloAjuste = Duration.ofMillis(500);
+        private double fatorReducao = 0.75;
+    }
+}
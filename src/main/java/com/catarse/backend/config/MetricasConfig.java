@@ -0,0 +1,23 @@
+package com.catarse.backend.config;
+
+import com.catarse.backend.metrics.MongoDocumentosListener;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricasConfig {
+
+    // Habilita @Timed em beans do Spring (ProjetoService)
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer documentosPorComando(MeterRegistry meterRegistry) {
+        return builder -> builder.addCommandListener(new MongoDocumentosListener(meterRegistry));
+    }
+}
@@ -0,0 +1,17 @@
+package com.catarse.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "catarse.migracao")
+public class MigracaoProperties {
+
+    // Validade da trava entre instâncias; renovada a cada campo convertido
+    private Duration duracaoTrava = Duration.ofMinutes(5);
+    // Intervalo entre consultas enquanto outra instância migra
+    private Duration intervaloEspera = Duration.ofSeconds(2);
+    private String instancia = "local";
+}
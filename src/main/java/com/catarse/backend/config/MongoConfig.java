@@ -0,0 +1,30 @@
+package com.catarse.backend.config;
+
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class MongoConfig {
+
+    // Com threads virtuais o pool de conexões passa a ser o limite real de concorrência no MongoDB
+    @Bean
+    public MongoClientSettingsBuilderCustomizer poolDeConexoes(MongoPoolProperties pool) {
+        return builder -> builder.applyToConnectionPoolSettings(conexoes -> {
+            if (pool.getTamanhoMaximo() != null) {
+                conexoes.maxSize(pool.getTamanhoMaximo());
+            }
+            if (pool.getTamanhoMinimo() != null) {
+                conexoes.minSize(pool.getTamanhoMinimo());
+            }
+            if (pool.getConexoesSimultaneas() != null) {
+                conexoes.maxConnecting(pool.getConexoesSimultaneas());
+            }
+            if (pool.getTempoMaximoEspera() != null) {
+                conexoes.maxWaitTime(pool.getTempoMaximoEspera().toMillis(), TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+}
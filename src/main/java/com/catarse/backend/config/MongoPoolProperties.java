@@ -0,0 +1,17 @@
+package com.catarse.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// Valores nulos mantêm o que vier da URI de conexão (ou o padrão do driver)
+@Data
+@ConfigurationProperties(prefix = "catarse.mongo.pool")
+public class MongoPoolProperties {
+
+    private Integer tamanhoMaximo;
+    private Integer tamanhoMinimo;
+    private Integer conexoesSimultaneas;
+    private Duration tempoMaximoEspera;
+}
@@ -0,0 +1,19 @@
+package com.catarse.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "catarse.mudancas")
+public class MudancasProperties {
+
+    // Change streams exigem replica set ou cluster fragmentado
+    private boolean enabled = false;
+    // Cada instância guarda o próprio ponto de retomada
+    private String instancia = "local";
+    // Frequência máxima de gravação do token; um reinício reentrega no máximo esse intervalo de eventos
+    private Duration intervaloRegistroToken = Duration.ofSeconds(1);
+    private Duration esperaReconexao = Duration.ofSeconds(5);
+}
@@ -0,0 +1,14 @@
+package com.catarse.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "catarse.cache.projetos")
+public class ProjetoCacheProperties {
+
+    private long tamanhoMaximo = 10_000;
+    private Duration ttl = Duration.ofSeconds(30);
+}
@@ -0,0 +1,20 @@
+package com.catarse.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "catarse.tendencias")
+public class TendenciasProperties {
+
+    private boolean enabled = true;
+    // Projetos mantidos no ranking de cada janela; o endpoint devolve no máximo esse número
+    private int tamanhoRanking = 100;
+    // Recalcula os rankings a partir de todas as séries, descontando os baldes que saíram da janela
+    private long intervaloRecalculoMs = 10_000;
+    // Grava no MongoDB as séries alteradas e lê as das outras instâncias; um reinício perde no máximo esse
+    // intervalo de doações, e uma doação leva até esse intervalo para aparecer no ranking das outras réplicas
+    private long intervaloCheckpointMs = 60_000;
+    // Cada instância conta as doações que recebeu, guarda o próprio checkpoint e soma os das demais
+    private String instancia = "local";
+}
@@ -1,29 +1,54 @@
 package com.catarse.backend.controller;
 
+import com.catarse.backend.dto.CursorPage;
+import com.catarse.backend.dto.EstatisticasResponse;
+import com.catarse.backend.dto.FacetaTag;
+import com.catarse.backend.dto.FiltroProjeto;
+import com.catarse.backend.dto.IdsRequest;
 import com.catarse.backend.dto.ProjetoRequest;
 import com.catarse.backend.dto.ProjetoResponse;
+import com.catarse.backend.dto.ProjetoSummary;
+import com.catarse.backend.dto.ProjetosPorIds;
+import com.catarse.backend.dto.ResultadoAlteracaoStatus;
+import com.catarse.backend.dto.ResultadoImportacao;
+import com.catarse.backend.dto.TendenciaProjeto;
+import com.catarse.backend.dto.Versionado;
+import com.catarse.backend.dto.VisaoProjeto;
+import com.catarse.backend.service.EstatisticasService;
+import com.catarse.backend.service.ImportacaoProjetoService;
 import com.catarse.backend.service.ProjetoService;
+import com.catarse.backend.web.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.util.List;
 
 @Tag(name = "Projetos", description = "API de Gerenciamento de Projetos")
 @RestController
 @RequestMapping("/projetos")
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class ProjetoController {
 
     private final ProjetoService projetoService;
+    private final ImportacaoProjetoService importacaoProjetoService;
+    private final EstatisticasService estatisticasService;
 
     @Operation(summary = "Criar um novo projeto")
     @PostMapping
@@ -33,21 +58,96 @@ public class ProjetoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(summary = "Importar projetos em lote (array JSON ou NDJSON)")
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ResultadoImportacao> importar(InputStream corpo) throws IOException {
+        ResultadoImportacao response = importacaoProjetoService.importar(corpo);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Estatísticas por categoria e globais (quantidade por status, valor arrecadado, taxa de sucesso)")
+    @GetMapping("/stats")
+    public ResponseEntity<EstatisticasResponse> estatisticas() {
+        EstatisticasResponse response = estatisticasService.consultar();
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Reconstruir as estatísticas a partir de todos os projetos")
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<EstatisticasResponse> reconstruirEstatisticas() {
+        EstatisticasResponse response = estatisticasService.reconstruir();
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "Buscar projeto por ID")
     @GetMapping("/{id}")
-    public ResponseEntity<ProjetoResponse> buscarPorId(@PathVariable String id) {
+    public ResponseEntity<ProjetoResponse> buscarPorId(@PathVariable String id, WebRequest webRequest) {
+        // Com If-None-Match, compara só a versão: o 304 sai sem montar nem serializar a resposta
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(ETags.projeto(projetoService.buscarVersao(id)))) {
+            return null;
+        }
+
         ProjetoResponse response = projetoService.buscarPorId(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(ETags.projeto(response.getVersao()))
+                .body(response);
     }
 
-    @Operation(summary = "Listar todos os projetos")
+    @Operation(summary = "Listar todos os projetos (view=summary por padrão, view=full para o documento completo)")
     @GetMapping
-    public ResponseEntity<Page<ProjetoResponse>> listarTodos(
+    public ResponseEntity<Page<? extends Versionado>> listarTodos(
+            @RequestParam(defaultValue = "summary") String view,
             @PageableDefault(size = 10, sort = "dataCriacao") Pageable pageable) {
-        Page<ProjetoResponse> response = projetoService.listarTodos(pageable);
+        Page<? extends Versionado> response = VisaoProjeto.de(view) == VisaoProjeto.RESUMO
+                ? projetoService.listarResumos(new FiltroProjeto(), pageable)
+                : projetoService.listarTodos(pageable);
+        // O 304 para If-None-Match é respondido pelo Spring a partir do ETag, sem serializar a página
+        return ResponseEntity.ok()
+                .eTag(ETags.pagina(response))
+                .body(response);
+    }
+
+    // Mais específico que listarTodos: atende GET /projetos?ids=a,b,c
+    @Operation(summary = "Buscar vários projetos por id, na ordem pedida, informando os ids inexistentes")
+    @GetMapping(params = "ids")
+    public ResponseEntity<ProjetosPorIds> buscarPorIds(
+            @RequestParam List<String> ids,
+            @RequestParam(defaultValue = "full") String view) {
+        ProjetosPorIds response = projetoService.buscarPorIds(ids, VisaoProjeto.de(view));
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Listar projetos por cursor (sem contagem total), com filtros opcionais")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<ProjetoResponse>> listarPorCursor(
+            FiltroProjeto filtro,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int tamanho) {
+        CursorPage<ProjetoResponse> response = projetoService.listarPorCursor(filtro, cursor, tamanho);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Busca textual em título, tags e descrição, por relevância, com filtros opcionais")
+    @GetMapping("/search")
+    public ResponseEntity<CursorPage<ProjetoSummary>> buscarTexto(
+            @RequestParam String q,
+            FiltroProjeto filtro,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int tamanho) {
+        CursorPage<ProjetoSummary> response = projetoService.buscarTexto(q, filtro, cursor, tamanho);
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Exportar projetos em NDJSON (um por linha), com filtros opcionais")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportar(FiltroProjeto filtro) {
+        StreamingResponseBody corpo = saida -> projetoService.exportar(filtro, saida);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(corpo);
+    }
+
     @Operation(summary = "Atualizar projeto")
     @PutMapping("/{id}")
     public ResponseEntity<ProjetoResponse> atualizarProjeto(
@@ -64,6 +164,20 @@ public class ProjetoController {
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(summary = "Publicar vários projetos em rascunho de uma vez")
+    @PostMapping("/publicar")
+    public ResponseEntity<ResultadoAlteracaoStatus> publicarProjetos(@Valid @RequestBody IdsRequest request) {
+        ResultadoAlteracaoStatus response = projetoService.publicarProjetos(request.getIds());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Cancelar vários projetos ainda não encerrados de uma vez")
+    @PostMapping("/cancelar")
+    public ResponseEntity<ResultadoAlteracaoStatus> cancelarProjetos(@Valid @RequestBody IdsRequest request) {
+        ResultadoAlteracaoStatus response = projetoService.cancelarProjetos(request.getIds());
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "Publicar projeto (mudar de rascunho para publicado)")
     @PostMapping("/{id}/publicar")
     public ResponseEntity<ProjetoResponse> publicarProjeto(@PathVariable String id) {
@@ -71,39 +185,75 @@ public class ProjetoController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "Adicionar doação a um projeto")
+    @Operation(summary = "Adicionar doação a um projeto",
+            description = "No modo ledger, repetir a requisição com o mesmo Idempotency-Key não duplica a doação; "
+                    + "nos demais modos o cabeçalho é recusado com 400")
     @PostMapping("/{id}/doacao")
     public ResponseEntity<ProjetoResponse> adicionarDoacao(
             @PathVariable String id,
-            @RequestParam BigDecimal valor) {
-        ProjetoResponse response = projetoService.adicionarDoacao(id, valor);
+            @RequestParam BigDecimal valor,
+            @RequestHeader(value = "Idempotency-Key", required = false) String chaveIdempotencia) {
+        ProjetoResponse response = projetoService.adicionarDoacao(id, valor, chaveIdempotencia);
         return ResponseEntity.ok(response);
     }
 
     @Operation(summary = "Buscar projetos por categoria")
     @GetMapping("/categoria/{categoria}")
-    public ResponseEntity<Page<ProjetoResponse>> buscarPorCategoria(
+    public ResponseEntity<Page<? extends Versionado>> buscarPorCategoria(
             @PathVariable String categoria,
-            @PageableDefault(size = 10) Pageable pageable) {
-        Page<ProjetoResponse> response = projetoService.buscarPorCategoria(categoria, pageable);
-        return ResponseEntity.ok(response);
+            @RequestParam(defaultValue = "summary") String view,
+            @PageableDefault(size = 10, sort = "dataCriacao") Pageable pageable) {
+        Page<? extends Versionado> response = VisaoProjeto.de(view) == VisaoProjeto.RESUMO
+                ? projetoService.listarResumos(FiltroProjeto.builder().categoria(categoria).build(), pageable)
+                : projetoService.buscarPorCategoria(categoria, pageable);
+        return ResponseEntity.ok()
+                .eTag(ETags.pagina(response))
+                .body(response);
     }
 
     @Operation(summary = "Buscar projetos por criador")
     @GetMapping("/criador/{criadorId}")
-    public ResponseEntity<Page<ProjetoResponse>> buscarPorCriador(
+    public ResponseEntity<Page<? extends Versionado>> buscarPorCriador(
             @PathVariable String criadorId,
-            @PageableDefault(size = 10) Pageable pageable) {
-        Page<ProjetoResponse> response = projetoService.buscarPorCriador(criadorId, pageable);
-        return ResponseEntity.ok(response);
+            @RequestParam(defaultValue = "summary") String view,
+            @PageableDefault(size = 10, sort = "dataCriacao") Pageable pageable) {
+        Page<? extends Versionado> response = VisaoProjeto.de(view) == VisaoProjeto.RESUMO
+                ? projetoService.listarResumos(FiltroProjeto.builder().criadorId(criadorId).build(), pageable)
+                : projetoService.buscarPorCriador(criadorId, pageable);
+        return ResponseEntity.ok()
+                .eTag(ETags.pagina(response))
+                .body(response);
     }
 
-    @Operation(summary = "Buscar projetos por tags")
+    @Operation(summary = "Buscar projetos por tags: tags (qualquer), tagsTodas (todas) e tagsExcluidas (nenhuma)")
     @GetMapping("/tags")
-    public ResponseEntity<Page<ProjetoResponse>> buscarPorTags(
-            @RequestParam List<String> tags,
-            @PageableDefault(size = 10) Pageable pageable) {
-        Page<ProjetoResponse> response = projetoService.buscarPorTags(tags, pageable);
+    public ResponseEntity<Page<? extends Versionado>> buscarPorTags(
+            FiltroProjeto filtro,
+            @RequestParam(defaultValue = "summary") String view,
+            @PageableDefault(size = 10, sort = "dataCriacao") Pageable pageable) {
+        Page<? extends Versionado> response = VisaoProjeto.de(view) == VisaoProjeto.RESUMO
+                ? projetoService.buscarResumosPorTags(filtro, pageable)
+                : projetoService.buscarPorTags(filtro, pageable);
+        return ResponseEntity.ok()
+                .eTag(ETags.pagina(response))
+                .body(response);
+    }
+
+    @Operation(summary = "Tags mais frequentes, opcionalmente entre os projetos que casam com os filtros de tags")
+    @GetMapping("/tags/facetas")
+    public ResponseEntity<List<FacetaTag>> facetasTags(
+            FiltroProjeto filtro,
+            @RequestParam(defaultValue = "10") int limite) {
+        List<FacetaTag> response = projetoService.facetasTags(filtro, limite);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Projetos com mais doações na última hora (janela=1h) ou nas últimas 24 horas (janela=24h)")
+    @GetMapping("/trending")
+    public ResponseEntity<List<TendenciaProjeto>> tendencias(
+            @RequestParam(defaultValue = "24h") String janela,
+            @RequestParam(defaultValue = "10") int limite) {
+        List<TendenciaProjeto> response = projetoService.tendencias(janela, limite);
         return ResponseEntity.ok(response);
     }
 }
\ No newline at end of file
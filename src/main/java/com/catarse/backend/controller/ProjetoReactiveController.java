@@ -0,0 +1,234 @@
+package com.catarse.backend.controller;
+
+import com.catarse.backend.dto.CursorPage;
+import com.catarse.backend.dto.EstatisticasResponse;
+import com.catarse.backend.dto.FacetaTag;
+import com.catarse.backend.dto.FiltroProjeto;
+import com.catarse.backend.dto.IdsRequest;
+import com.catarse.backend.dto.ProjetoRequest;
+import com.catarse.backend.dto.ProjetoResponse;
+import com.catarse.backend.dto.ProjetoSummary;
+import com.catarse.backend.dto.ProjetosPorIds;
+import com.catarse.backend.dto.ResultadoAlteracaoStatus;
+import com.catarse.backend.dto.ResultadoImportacao;
+import com.catarse.backend.dto.TendenciaProjeto;
+import com.catarse.backend.dto.Versionado;
+import com.catarse.backend.dto.VisaoProjeto;
+import com.catarse.backend.service.EstatisticasService;
+import com.catarse.backend.service.ProjetoService;
+import com.catarse.backend.service.reativo.ProjetoServiceReativo;
+import com.catarse.backend.web.ETags;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// Mesmos endpoints de ProjetoController sobre WebFlux (perfil reactive). Leituras vão direto ao
+// driver reativo; o restante reaproveita os serviços bloqueantes fora das threads de I/O.
+@Tag(name = "Projetos", description = "API de Gerenciamento de Projetos")
+@RestController
+@RequestMapping("/projetos")
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ProjetoReactiveController {
+
+    private final ProjetoServiceReativo projetoServiceReativo;
+    private final ProjetoService projetoService;
+    private final EstatisticasService estatisticasService;
+
+    @PostMapping
+    public Mono<ResponseEntity<ProjetoResponse>> criarProjeto(@Valid @RequestBody ProjetoRequest request) {
+        return projetoServiceReativo.bloqueante(() -> projetoService.criarProjeto(request))
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<ResultadoImportacao>> importar(ServerHttpRequest request) {
+        return projetoServiceReativo.importar(request.getBody())
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/stats")
+    public Mono<ResponseEntity<EstatisticasResponse>> estatisticas() {
+        return projetoServiceReativo.bloqueante(estatisticasService::consultar)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/stats/rebuild")
+    public Mono<ResponseEntity<EstatisticasResponse>> reconstruirEstatisticas() {
+        return projetoServiceReativo.bloqueante(estatisticasService::reconstruir)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ProjetoResponse>> buscarPorId(@PathVariable String id, ServerWebExchange exchange) {
+        // Com If-None-Match, compara só a versão: o 304 sai sem montar nem serializar a resposta
+        if (!exchange.getRequest().getHeaders().getIfNoneMatch().isEmpty()) {
+            return projetoServiceReativo.buscarVersao(id)
+                    .map(ETags::projeto)
+                    .flatMap(etag -> exchange.checkNotModified(etag)
+                            ? Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<ProjetoResponse>build())
+                            : comCorpo(id));
+        }
+
+        return comCorpo(id);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Page<? extends Versionado>>> listarTodos(
+            @RequestParam(defaultValue = "summary") String view,
+            @PageableDefault(size = 10, sort = "dataCriacao") Pageable pageable) {
+        return pagina(new FiltroProjeto(), view, pageable);
+    }
+
+    @GetMapping(params = "ids")
+    public Mono<ResponseEntity<ProjetosPorIds>> buscarPorIds(
+            @RequestParam List<String> ids,
+            @RequestParam(defaultValue = "full") String view) {
+        return projetoServiceReativo.bloqueante(() -> projetoService.buscarPorIds(ids, VisaoProjeto.de(view)))
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/cursor")
+    public Mono<ResponseEntity<CursorPage<ProjetoResponse>>> listarPorCursor(
+            FiltroProjeto filtro,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int tamanho) {
+        return projetoServiceReativo.listarPorCursor(filtro, cursor, tamanho)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<CursorPage<ProjetoSummary>>> buscarTexto(
+            @RequestParam String q,
+            FiltroProjeto filtro,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int tamanho) {
+        return projetoServiceReativo.bloqueante(() -> projetoService.buscarTexto(q, filtro, cursor, tamanho))
+                .map(ResponseEntity::ok);
+    }
+
+    // Flux com NDJSON: cada projeto é escrito assim que chega, no ritmo em que o cliente consome
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ProjetoResponse> exportar(FiltroProjeto filtro) {
+        return projetoServiceReativo.exportar(filtro);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<ProjetoResponse>> atualizarProjeto(
+            @PathVariable String id,
+            @Valid @RequestBody ProjetoRequest request) {
+        return projetoServiceReativo.bloqueante(() -> projetoService.atualizarProjeto(id, request))
+                .map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deletarProjeto(@PathVariable String id) {
+        return projetoServiceReativo.bloqueante(() -> {
+                    projetoService.deletarProjeto(id);
+                    return ResponseEntity.noContent().<Void>build();
+                });
+    }
+
+    @PostMapping("/publicar")
+    public Mono<ResponseEntity<ResultadoAlteracaoStatus>> publicarProjetos(@Valid @RequestBody IdsRequest request) {
+        return projetoServiceReativo.bloqueante(() -> projetoService.publicarProjetos(request.getIds()))
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/cancelar")
+    public Mono<ResponseEntity<ResultadoAlteracaoStatus>> cancelarProjetos(@Valid @RequestBody IdsRequest request) {
+        return projetoServiceReativo.bloqueante(() -> projetoService.cancelarProjetos(request.getIds()))
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/{id}/publicar")
+    public Mono<ResponseEntity<ProjetoResponse>> publicarProjeto(@PathVariable String id) {
+        return projetoServiceReativo.bloqueante(() -> projetoService.publicarProjeto(id))
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/{id}/doacao")
+    public Mono<ResponseEntity<ProjetoResponse>> adicionarDoacao(
+            @PathVariable String id,
+            @RequestParam BigDecimal valor,
+            @RequestHeader(value = "Idempotency-Key", required = false) String chaveIdempotencia) {
+        return projetoServiceReativo.bloqueante(() -> projetoService.adicionarDoacao(id, valor, chaveIdempotencia))
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/categoria/{categoria}")
+    public Mono<ResponseEntity<Page<? extends Versionado>>> buscarPorCategoria(
+            @PathVariable String categoria,
+            @RequestParam(defaultValue = "summary") String view,
+            @PageableDefault(size = 10, sort = "dataCriacao") Pageable pageable) {
+        return pagina(FiltroProjeto.builder().categoria(categoria).build(), view, pageable);
+    }
+
+    @GetMapping("/criador/{criadorId}")
+    public Mono<ResponseEntity<Page<? extends Versionado>>> buscarPorCriador(
+            @PathVariable String criadorId,
+            @RequestParam(defaultValue = "summary") String view,
+            @PageableDefault(size = 10, sort = "dataCriacao") Pageable pageable) {
+        return pagina(FiltroProjeto.builder().criadorId(criadorId).build(), view, pageable);
+    }
+
+    // Usa o índice de tags em memória, como a pilha servlet
+    @GetMapping("/tags")
+    public Mono<ResponseEntity<Page<? extends Versionado>>> buscarPorTags(
+            FiltroProjeto filtro,
+            @RequestParam(defaultValue = "summary") String view,
+            @PageableDefault(size = 10, sort = "dataCriacao") Pageable pageable) {
+        VisaoProjeto visao = VisaoProjeto.de(view);
+        return projetoServiceReativo.<Page<? extends Versionado>>bloqueante(() -> visao == VisaoProjeto.RESUMO
+                        ? projetoService.buscarResumosPorTags(filtro, pageable)
+                        : projetoService.buscarPorTags(filtro, pageable))
+                .map(response -> ResponseEntity.ok()
+                        .eTag(ETags.pagina(response))
+                        .body(response));
+    }
+
+    @GetMapping("/tags/facetas")
+    public Mono<ResponseEntity<List<FacetaTag>>> facetasTags(
+            FiltroProjeto filtro,
+            @RequestParam(defaultValue = "10") int limite) {
+        return projetoServiceReativo.bloqueante(() -> projetoService.facetasTags(filtro, limite))
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/trending")
+    public Mono<ResponseEntity<List<TendenciaProjeto>>> tendencias(
+            @RequestParam(defaultValue = "24h") String janela,
+            @RequestParam(defaultValue = "10") int limite) {
+        return projetoServiceReativo.bloqueante(() -> projetoService.tendencias(janela, limite))
+                .map(ResponseEntity::ok);
+    }
+
+    private Mono<ResponseEntity<ProjetoResponse>> comCorpo(String id) {
+        return projetoServiceReativo.buscarPorId(id)
+                .map(response -> ResponseEntity.ok()
+                        .eTag(ETags.projeto(response.getVersao()))
+                        .body(response));
+    }
+
+    private Mono<ResponseEntity<Page<? extends Versionado>>> pagina(FiltroProjeto filtro, String view, Pageable pageable) {
+        return projetoServiceReativo.listar(filtro, pageable, VisaoProjeto.de(view))
+                .map(response -> ResponseEntity.ok()
+                        .eTag(ETags.pagina(response))
+                        .body(response));
+    }
+}
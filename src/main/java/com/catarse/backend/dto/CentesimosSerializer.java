@@ -0,0 +1,22 @@
+package com.catarse.backend.dto;
+
+import com.catarse.backend.model.Centavos;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+// Escreve um long em centésimos como número JSON com duas casas (centavos viram reais): o contrato
+// da API continua em reais sem criar um BigDecimal por campo serializado
+public class CentesimosSerializer extends StdSerializer<Long> {
+
+    public CentesimosSerializer() {
+        super(Long.class);
+    }
+
+    @Override
+    public void serialize(Long valor, JsonGenerator gerador, SerializerProvider provider) throws IOException {
+        gerador.writeNumber(Centavos.formatar(valor));
+    }
+}
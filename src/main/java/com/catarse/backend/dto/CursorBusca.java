@@ -0,0 +1,32 @@
+package com.catarse.backend.dto;
+
+import com.catarse.backend.model.Projeto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Posição na busca textual ordenada por (relevância, _id), serializada como token opaco
+public record CursorBusca(double relevancia, String id) {
+
+    private static final char SEPARADOR = '|';
+
+    public static CursorBusca apos(Projeto projeto) {
+        return new CursorBusca(projeto.getRelevancia(), projeto.getId());
+    }
+
+    public String codificar() {
+        // Double.toString preserva o valor exato, necessário para a comparação de igualdade no keyset
+        String valor = Double.toString(relevancia) + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CursorBusca decodificar(String token) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separador = valor.indexOf(SEPARADOR);
+            return new CursorBusca(Double.parseDouble(valor.substring(0, separador)), valor.substring(separador + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.catarse.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> conteudo;
+
+    // Nulo quando não há mais itens
+    private String proximoCursor;
+}
@@ -0,0 +1,33 @@
+package com.catarse.backend.dto;
+
+import com.catarse.backend.model.Projeto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Posição na listagem ordenada por (data_criacao, _id), serializada como token opaco
+public record CursorProjeto(LocalDateTime dataCriacao, String id) {
+
+    private static final char SEPARADOR = '|';
+
+    public static CursorProjeto apos(Projeto projeto) {
+        return new CursorProjeto(projeto.getDataCriacao(), projeto.getId());
+    }
+
+    public String codificar() {
+        String valor = dataCriacao.toString() + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CursorProjeto decodificar(String token) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separador = valor.indexOf(SEPARADOR);
+            return new CursorProjeto(LocalDateTime.parse(valor.substring(0, separador)), valor.substring(separador + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.catarse.backend.dto;
+
+import com.catarse.backend.model.EstatisticaCategoria;
+import com.catarse.backend.model.Projeto;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstatisticasResponse {
+
+    private Resumo global;
+    private List<Resumo> categorias;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Resumo {
+
+        private String categoria;
+        private long total;
+        private Map<Projeto.StatusProjeto, Long> porStatus;
+        @JsonSerialize(using = CentesimosSerializer.class)
+        @Schema(type = "number", example = "1250.50")
+        private long valorArrecadado;
+        // Percentual de sucesso entre os projetos já encerrados; null enquanto nenhum encerrou
+        private BigDecimal taxaSucesso;
+    }
+
+    public static EstatisticasResponse de(List<EstatisticaCategoria> estatisticas) {
+        long total = 0;
+        Map<Projeto.StatusProjeto, Long> porStatus = new EnumMap<>(Projeto.StatusProjeto.class);
+        long valorArrecadado = 0;
+
+        for (EstatisticaCategoria estatistica : estatisticas) {
+            total += estatistica.getTotal();
+            estatistica.getStatus().forEach((status, quantidade) -> porStatus.merge(status, quantidade, Long::sum));
+            valorArrecadado += estatistica.getValorArrecadado();
+        }
+
+        return EstatisticasResponse.builder()
+                .global(resumo(null, total, porStatus, valorArrecadado))
+                .categorias(estatisticas.stream()
+                        .map(e -> resumo(e.getCategoria(), e.getTotal(), e.getStatus(), e.getValorArrecadado()))
+                        .toList())
+                .build();
+    }
+
+    private static Resumo resumo(String categoria, long total, Map<Projeto.StatusProjeto, Long> porStatus,
+                                 long valorArrecadado) {
+        long sucesso = porStatus.getOrDefault(Projeto.StatusProjeto.CONCLUIDO, 0L)
+                + porStatus.getOrDefault(Projeto.StatusProjeto.FINALIZADO_COM_SUCESSO, 0L);
+        long encerrados = sucesso + porStatus.getOrDefault(Projeto.StatusProjeto.FINALIZADO_SEM_SUCESSO, 0L);
+
+        return Resumo.builder()
+                .categoria(categoria)
+                .total(total)
+                .porStatus(porStatus)
+                .valorArrecadado(valorArrecadado)
+                .taxaSucesso(encerrados == 0 ? null : BigDecimal.valueOf(sucesso * 100)
+                        .divide(BigDecimal.valueOf(encerrados), 2, RoundingMode.HALF_UP))
+                .build();
+    }
+}
@@ -0,0 +1,4 @@
+package com.catarse.backend.dto;
+
+public record FacetaTag(String tag, long quantidade) {
+}
@@ -0,0 +1,33 @@
+package com.catarse.backend.dto;
+
+import com.catarse.backend.model.Projeto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FiltroProjeto {
+
+    private String categoria;
+    private String criadorId;
+    private Projeto.StatusProjeto status;
+    // Qualquer uma destas tags (OR)
+    private List<String> tags;
+
+    // Todas estas tags (AND)
+    private List<String> tagsTodas;
+
+    // Nenhuma destas tags (NOT)
+    private List<String> tagsExcluidas;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime atualizadoDesde;
+}
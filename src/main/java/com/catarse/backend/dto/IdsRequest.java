@@ -0,0 +1,19 @@
+package com.catarse.backend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdsRequest {
+
+    @NotEmpty(message = "Informe ao menos um id")
+    @Size(max = 500, message = "No máximo 500 ids por requisição")
+    private List<String> ids;
+}
@@ -1,5 +1,6 @@
 package com.catarse.backend.dto;
 
+import com.catarse.backend.model.Centavos;
 import com.catarse.backend.model.Projeto;
 import jakarta.validation.constraints.*;
 import java.math.BigDecimal;
@@ -21,6 +22,7 @@ public class ProjetoRequest {
 
     @NotNull(message = "Meta financeira é obrigatória")
     @DecimalMin(value = "100.00", message = "Meta financeira mínima é R$ 100,00")
+    @Digits(integer = 13, fraction = 2, message = "Meta financeira deve ter no máximo duas casas decimais")
     private BigDecimal metaFinanceira;
 
     @NotNull(message = "Data limite é obrigatória")
@@ -64,8 +66,8 @@ public class ProjetoRequest {
                 .titulo(this.titulo)
                 .descricao(this.descricao)
                 .categoria(this.categoria)
-                .metaFinanceira(this.metaFinanceira)
-                .valorArrecadado(BigDecimal.ZERO)
+                .metaFinanceira(Centavos.de(this.metaFinanceira))
+                .valorArrecadado(0)
                 .dataLimite(this.dataLimite)
                 .criadorId(this.criadorId)
                 .tags(this.tags)
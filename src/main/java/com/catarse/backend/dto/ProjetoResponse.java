@@ -1,12 +1,13 @@
 package com.catarse.backend.dto;
 
 import com.catarse.backend.model.Projeto;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -15,14 +16,19 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class ProjetoResponse {
+public class ProjetoResponse implements Versionado {
 
     private String id;
     private String titulo;
     private String descricao;
     private String categoria;
-    private BigDecimal metaFinanceira;
-    private BigDecimal valorArrecadado;
+    // Centavos no objeto, reais no JSON
+    @JsonSerialize(using = CentesimosSerializer.class)
+    @Schema(type = "number", example = "25000.00")
+    private long metaFinanceira;
+    @JsonSerialize(using = CentesimosSerializer.class)
+    @Schema(type = "number", example = "1250.50")
+    private long valorArrecadado;
     private LocalDate dataLimite;
     private String criadorId;
     private List<String> tags;
@@ -30,6 +36,7 @@ public class ProjetoResponse {
     private String imagemUrl;
     private LocalDateTime dataCriacao;
     private LocalDateTime dataAtualizacao;
+    private long versao;
 
     public static ProjetoResponse fromEntity(Projeto projeto) {
         return ProjetoResponse.builder()
@@ -46,6 +53,7 @@ public class ProjetoResponse {
                 .imagemUrl(projeto.getImagemUrl())
                 .dataCriacao(projeto.getDataCriacao())
                 .dataAtualizacao(projeto.getDataAtualizacao())
+                .versao(projeto.getVersao())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.catarse.backend.dto;
+
+import com.catarse.backend.model.Centavos;
+import com.catarse.backend.model.Projeto;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// Versão enxuta de ProjetoResponse para listagens (cards): sem descrição, criador, tags e datas de auditoria
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjetoSummary implements Versionado {
+
+    private String id;
+    private String titulo;
+    private String categoria;
+    private Projeto.StatusProjeto status;
+    // Centavos e centésimos de ponto percentual no objeto, reais e percentual com duas casas no JSON
+    @JsonSerialize(using = CentesimosSerializer.class)
+    @Schema(type = "number", example = "25000.00")
+    private long metaFinanceira;
+    @JsonSerialize(using = CentesimosSerializer.class)
+    @Schema(type = "number", example = "1250.50")
+    private long valorArrecadado;
+    @JsonSerialize(using = CentesimosSerializer.class)
+    @Schema(type = "number", example = "5.00")
+    private long percentualArrecadado;
+    private LocalDate dataLimite;
+    private String imagemUrl;
+    private long versao;
+
+    public static ProjetoSummary fromEntity(Projeto projeto) {
+        return ProjetoSummary.builder()
+                .id(projeto.getId())
+                .titulo(projeto.getTitulo())
+                .categoria(projeto.getCategoria())
+                .status(projeto.getStatus())
+                .metaFinanceira(projeto.getMetaFinanceira())
+                .valorArrecadado(projeto.getValorArrecadado())
+                .percentualArrecadado(Centavos.percentualCentesimos(projeto.getValorArrecadado(), projeto.getMetaFinanceira()))
+                .dataLimite(projeto.getDataLimite())
+                .imagemUrl(projeto.getImagemUrl())
+                .versao(projeto.getVersao())
+                .build();
+    }
+
+    // A partir da resposta completa já em cache, sem voltar ao documento
+    public static ProjetoSummary fromResponse(ProjetoResponse projeto) {
+        return ProjetoSummary.builder()
+                .id(projeto.getId())
+                .titulo(projeto.getTitulo())
+                .categoria(projeto.getCategoria())
+                .status(projeto.getStatus())
+                .metaFinanceira(projeto.getMetaFinanceira())
+                .valorArrecadado(projeto.getValorArrecadado())
+                .percentualArrecadado(Centavos.percentualCentesimos(projeto.getValorArrecadado(), projeto.getMetaFinanceira()))
+                .dataLimite(projeto.getDataLimite())
+                .imagemUrl(projeto.getImagemUrl())
+                .versao(projeto.getVersao())
+                .build();
+    }
+}
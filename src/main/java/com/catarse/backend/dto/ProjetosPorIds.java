@@ -0,0 +1,17 @@
+package com.catarse.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Resposta de GET /projetos?ids=...: projetos na ordem pedida e os ids que não existem
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjetosPorIds {
+
+    private List<? extends Versionado> projetos;
+    private List<String> naoEncontrados;
+}
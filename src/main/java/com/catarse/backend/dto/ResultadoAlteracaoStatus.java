@@ -0,0 +1,19 @@
+package com.catarse.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Resultado de uma alteração de status em lote, por id
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoAlteracaoStatus {
+
+    private List<String> alterados;
+    // Existem, mas o status atual não permite a alteração
+    private List<String> recusados;
+    private List<String> naoEncontrados;
+}
@@ -0,0 +1,49 @@
+package com.catarse.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoImportacao {
+
+    private long criados;
+    private long duplicados;
+    private long invalidos;
+    private long falhas;
+    private List<ItemImportacao> itens;
+
+    public static ResultadoImportacao de(List<ItemImportacao> itens) {
+        ResultadoImportacao resultado = new ResultadoImportacao(0, 0, 0, 0, itens);
+        for (ItemImportacao item : itens) {
+            switch (item.getStatus()) {
+                case CRIADO -> resultado.criados++;
+                case DUPLICADO -> resultado.duplicados++;
+                case INVALIDO -> resultado.invalidos++;
+                case FALHA -> resultado.falhas++;
+            }
+        }
+        return resultado;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemImportacao {
+        private int indice;
+        private StatusItem status;
+        private String id;
+        private String mensagem;
+    }
+
+    public enum StatusItem {
+        CRIADO,
+        DUPLICADO,
+        INVALIDO,
+        FALHA
+    }
+}
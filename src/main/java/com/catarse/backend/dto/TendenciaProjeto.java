@@ -0,0 +1,22 @@
+package com.catarse.backend.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Posição no ranking de tendências: o projeto e o que ele recebeu dentro da janela pedida
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TendenciaProjeto {
+
+    private ProjetoSummary projeto;
+    @JsonSerialize(using = CentesimosSerializer.class)
+    @Schema(type = "number", example = "350.00")
+    private long valorJanela;
+    private long doacoesJanela;
+}
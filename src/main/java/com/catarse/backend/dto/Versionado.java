@@ -0,0 +1,9 @@
+package com.catarse.backend.dto;
+
+// Respostas que carregam a versão do projeto, usada para montar ETags
+public interface Versionado {
+
+    String getId();
+
+    long getVersao();
+}
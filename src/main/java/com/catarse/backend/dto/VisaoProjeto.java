@@ -0,0 +1,23 @@
+package com.catarse.backend.dto;
+
+import java.util.Arrays;
+
+// Parâmetro view das listagens: summary (padrão) devolve ProjetoSummary, full devolve ProjetoResponse
+public enum VisaoProjeto {
+
+    RESUMO("summary"),
+    COMPLETA("full");
+
+    private final String parametro;
+
+    VisaoProjeto(String parametro) {
+        this.parametro = parametro;
+    }
+
+    public static VisaoProjeto de(String parametro) {
+        return Arrays.stream(values())
+                .filter(visao -> visao.parametro.equalsIgnoreCase(parametro))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Visão inválida: " + parametro + " (use summary ou full)"));
+    }
+}
@@ -0,0 +1,23 @@
+package com.catarse.backend.exception;
+
+import lombok.Getter;
+
+@Getter
+public class DoacaoRecusadaException extends IllegalStateException {
+
+    public enum Motivo {
+        VALOR_INVALIDO,
+        NAO_ENCONTRADO,
+        NAO_ABERTO,
+        EXPIRADO,
+        // Idempotency-Key já usada em outra doação (outro projeto ou valor)
+        CHAVE_REUTILIZADA
+    }
+
+    private final Motivo motivo;
+
+    public DoacaoRecusadaException(Motivo motivo, String message) {
+        super(message);
+        this.motivo = motivo;
+    }
+}
@@ -1,14 +1,18 @@
 package com.catarse.backend.exception;
 
+import com.catarse.backend.model.Projeto;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -46,6 +50,44 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(DuplicateKeyException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateKey(DuplicateKeyException ex) {
+        log.error("Chave duplicada: {}", ex.getMessage());
+
+        String mensagem = ex.getMessage() != null && ex.getMessage().contains(Projeto.INDICE_TITULO)
+                ? "Já existe um projeto com este título"
+                : "Registro duplicado";
+
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Requisição inválida",
+                mensagem,
+                LocalDateTime.now()
+        );
+
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(LimiteExcedidoException.class)
+    public ResponseEntity<ErrorResponse> handleLimiteExcedido(LimiteExcedidoException ex) {
+        // Em rajadas isso acontece a cada requisição rejeitada; a contagem fica nas métricas
+        log.debug("Requisição rejeitada pelo limitador ({}): {}", ex.getMotivo(), ex.getMessage());
+
+        HttpStatus status = ex.getMotivo() == LimiteExcedidoException.Motivo.SOBRECARGA
+                ? HttpStatus.SERVICE_UNAVAILABLE
+                : HttpStatus.TOO_MANY_REQUESTS;
+        ErrorResponse error = new ErrorResponse(
+                status.value(),
+                status == HttpStatus.SERVICE_UNAVAILABLE ? "Serviço sobrecarregado" : "Muitas requisições",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getTentarAposSegundos()))
+                .body(error);
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<ErrorResponse> handleIllegalState(IllegalStateException ex) {
         log.error("Estado inválido: {}", ex.getMessage());
@@ -83,6 +125,25 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
+    // Equivalente de MethodArgumentNotValidException na pilha reativa (perfil reactive)
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ValidationErrorResponse> handleValidationExceptions(WebExchangeBindException ex) {
+        log.error("Erro de validação: {}", ex.getMessage());
+
+        Map<String, String> errors = new HashMap<>();
+        ex.getFieldErrors().forEach(error -> errors.put(error.getField(), error.getDefaultMessage()));
+
+        ValidationErrorResponse error = new ValidationErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Erro de validação",
+                "Campos inválidos na requisição",
+                LocalDateTime.now(),
+                errors
+        );
+
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
         log.error("Erro interno: {}", ex.getMessage(), ex);
@@ -0,0 +1,24 @@
+package com.catarse.backend.exception;
+
+import lombok.Getter;
+
+@Getter
+public class LimiteExcedidoException extends RuntimeException {
+
+    public enum Motivo {
+        // 429: taxa do cliente ou do projeto acima do configurado
+        CLIENTE,
+        PROJETO,
+        // 503: limite de concorrência atingido porque o MongoDB está lento
+        SOBRECARGA
+    }
+
+    private final Motivo motivo;
+    private final long tentarAposSegundos;
+
+    public LimiteExcedidoException(Motivo motivo, long tentarAposSegundos, String message) {
+        super(message);
+        this.motivo = motivo;
+        this.tentarAposSegundos = tentarAposSegundos;
+    }
+}
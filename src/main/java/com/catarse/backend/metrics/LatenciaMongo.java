@@ -0,0 +1,37 @@
+package com.catarse.backend.metrics;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Média móvel exponencial da duração dos comandos do MongoDB. getMore (cursores de exportação e o
+// change stream, que espera por dados) e aggregate (reconstruções com $out) ficam de fora: a demora
+// deles não indica sobrecarga.
+public class LatenciaMongo implements CommandListener {
+
+    private static final Set<String> COMANDOS = Set.of(
+            "find", "findAndModify", "insert", "update", "delete", "count");
+    private static final double PESO_NOVA_AMOSTRA = 0.05;
+
+    private final AtomicLong mediaNanos = new AtomicLong(Double.doubleToLongBits(0));
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        if (!COMANDOS.contains(event.getCommandName())) {
+            return;
+        }
+
+        double amostra = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        mediaNanos.getAndUpdate(bits -> {
+            double media = Double.longBitsToDouble(bits);
+            return Double.doubleToLongBits(media + PESO_NOVA_AMOSTRA * (amostra - media));
+        });
+    }
+
+    public double mediaNanos() {
+        return Double.longBitsToDouble(mediaNanos.get());
+    }
+}
@@ -0,0 +1,41 @@
+package com.catarse.backend.metrics;
+
+import com.catarse.backend.exception.DoacaoRecusadaException.Motivo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+@Component
+public class MetricasDoacao {
+
+    private final Counter aceitas;
+    private final Map<Motivo, Counter> recusadas = new EnumMap<>(Motivo.class);
+
+    public MetricasDoacao(MeterRegistry meterRegistry) {
+        this.aceitas = Counter.builder("catarse.doacao")
+                .description("Doações recebidas pela API")
+                .tag("resultado", "aceita")
+                .tag("motivo", "nenhum")
+                .register(meterRegistry);
+
+        for (Motivo motivo : Motivo.values()) {
+            recusadas.put(motivo, Counter.builder("catarse.doacao")
+                    .description("Doações recebidas pela API")
+                    .tag("resultado", "recusada")
+                    .tag("motivo", motivo.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    public void aceita() {
+        aceitas.increment();
+    }
+
+    public void recusada(Motivo motivo) {
+        recusadas.get(motivo).increment();
+    }
+}
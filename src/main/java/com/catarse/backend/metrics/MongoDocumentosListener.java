@@ -0,0 +1,86 @@
+package com.catarse.backend.metrics;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Complementa o timer mongodb.driver.commands do Spring Boot com a quantidade de documentos
+// devolvidos ou afetados por comando, para achar consultas que trazem mais do que a página usa.
+public class MongoDocumentosListener implements CommandListener {
+
+    private static final Set<String> COMANDOS = Set.of(
+            "find", "getMore", "aggregate", "findAndModify", "insert", "update", "delete", "count");
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Integer, String> colecoes = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> medidores = new ConcurrentHashMap<>();
+
+    public MongoDocumentosListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (!COMANDOS.contains(event.getCommandName())) {
+            return;
+        }
+
+        BsonDocument comando = event.getCommand();
+        BsonValue colecao = "getMore".equals(event.getCommandName())
+                ? comando.get("collection")
+                : comando.get(event.getCommandName());
+        if (colecao != null && colecao.isString()) {
+            colecoes.put(event.getRequestId(), colecao.asString().getValue());
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        String colecao = colecoes.remove(event.getRequestId());
+        if (colecao == null) {
+            return;
+        }
+
+        long documentos = documentos(event.getCommandName(), event.getResponse());
+        if (documentos >= 0) {
+            medidores.computeIfAbsent(colecao + "/" + event.getCommandName(), chave ->
+                    DistributionSummary.builder("catarse.mongo.documentos")
+                            .description("Documentos devolvidos ou afetados por comando do MongoDB")
+                            .tag("collection", colecao)
+                            .tag("command", event.getCommandName())
+                            .publishPercentileHistogram()
+                            .register(meterRegistry))
+                    .record(documentos);
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        colecoes.remove(event.getRequestId());
+    }
+
+    private static long documentos(String comando, BsonDocument resposta) {
+        BsonDocument cursor = resposta.getDocument("cursor", null);
+        if (cursor != null) {
+            String lote = "getMore".equals(comando) ? "nextBatch" : "firstBatch";
+            return cursor.containsKey(lote) ? cursor.getArray(lote).size() : -1;
+        }
+
+        if ("findAndModify".equals(comando)) {
+            BsonValue valor = resposta.get("value");
+            return valor != null && valor.isDocument() ? 1 : 0;
+        }
+
+        BsonValue n = resposta.get("n");
+        return n != null && n.isNumber() ? n.asNumber().longValue() : -1;
+    }
+}
@@ -0,0 +1,84 @@
+package com.catarse.backend.migration;
+
+import com.catarse.backend.config.MigracaoProperties;
+import com.catarse.backend.model.MigracaoAplicada;
+import com.catarse.backend.repository.TravaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Roda cada migração uma única vez por banco: uma instância executa sob a trava "migracao-<nome>" e
+// registra a conclusão em migracoes; as demais esperam o registro antes de seguir com a inicialização
+@Slf4j
+@Component
+public class ExecutorMigracoes {
+
+    private final MongoTemplate mongoTemplate;
+    private final TravaRepository travaRepository;
+    private final MigracaoProperties properties;
+    private final String dono;
+
+    public ExecutorMigracoes(MongoTemplate mongoTemplate, TravaRepository travaRepository,
+                             MigracaoProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.travaRepository = travaRepository;
+        this.properties = properties;
+        this.dono = properties.getInstancia() + ":" + UUID.randomUUID();
+    }
+
+    public void executarUmaVez(String nome, Runnable migracao) {
+        while (!concluida(nome)) {
+            if (travaRepository.adquirir(trava(nome), dono, properties.getDuracaoTrava())) {
+                try {
+                    // Outra instância pode ter concluído entre a consulta e a trava
+                    if (!concluida(nome)) {
+                        migracao.run();
+                        registrar(nome);
+                    }
+                } finally {
+                    travaRepository.liberar(trava(nome), dono);
+                }
+                return;
+            }
+
+            log.info("Aguardando outra instância concluir a migração {}", nome);
+            esperar(nome);
+        }
+    }
+
+    // Chamado entre etapas longas; perder a trava aborta a migração (e a inicialização desta instância)
+    public void renovar(String nome) {
+        if (!travaRepository.adquirir(trava(nome), dono, properties.getDuracaoTrava())) {
+            throw new IllegalStateException("Trava da migração " + nome + " perdida durante a execução");
+        }
+    }
+
+    private void registrar(String nome) {
+        MigracaoAplicada migracao = new MigracaoAplicada();
+        migracao.setNome(nome);
+        migracao.setInstancia(properties.getInstancia());
+        migracao.setConcluidaEm(Instant.now());
+        mongoTemplate.save(migracao);
+        log.info("Migração {} concluída", nome);
+    }
+
+    private boolean concluida(String nome) {
+        return mongoTemplate.findById(nome, MigracaoAplicada.class) != null;
+    }
+
+    private static String trava(String nome) {
+        return "migracao-" + nome;
+    }
+
+    private void esperar(String nome) {
+        try {
+            Thread.sleep(properties.getIntervaloEspera().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando a migração " + nome, e);
+        }
+    }
+}
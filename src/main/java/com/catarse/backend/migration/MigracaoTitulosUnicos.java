@@ -0,0 +1,80 @@
+package com.catarse.backend.migration;
+
+import com.catarse.backend.model.Projeto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// O índice único de título não sobe sobre bancos com títulos repetidos (E11000 na inicialização).
+// Antes de criá-lo, renomeia as cópias uma única vez por banco (ExecutorMigracoes): o projeto mais antigo
+// mantém o título, os demais ganham o próprio id como sufixo ("Título [id]") e cada renomeação vai para o
+// log. Por isso o índice não é declarado na entidade: a criação automática rodaria antes desta migração.
+// Instâncias da versão anterior ainda aceitam títulos repetidos: se gravarem um entre a migração e o
+// índice, a inicialização falha e basta subir de novo depois de corrigi-lo (ver Readme).
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MigracaoTitulosUnicos {
+
+    private static final String NOME = "titulos-unicos";
+
+    private final MongoTemplate mongoTemplate;
+    private final ExecutorMigracoes executor;
+
+    @PostConstruct
+    public void migrar() {
+        executor.executarUmaVez(NOME, this::renomearDuplicados);
+
+        // Idempotente: garante o índice em bancos novos e nas subidas seguintes
+        mongoTemplate.indexOps(Projeto.class).ensureIndex(new Index()
+                .on("titulo", Sort.Direction.ASC)
+                .unique()
+                .named(Projeto.INDICE_TITULO));
+    }
+
+    private void renomearDuplicados() {
+        Aggregation agregacao = Aggregation.newAggregation(
+                Aggregation.sort(Sort.by("dataCriacao", "id")),
+                Aggregation.group("titulo").push("_id").as("ids").count().as("total"),
+                Aggregation.match(Criteria.where("total").gt(1)));
+
+        List<Document> grupos = mongoTemplate.aggregate(agregacao, Projeto.class, Document.class)
+                .getMappedResults();
+
+        for (Document grupo : grupos) {
+            executor.renovar(NOME);
+            String titulo = grupo.getString("_id");
+            List<?> ids = grupo.getList("ids", Object.class);
+
+            // O primeiro, pela ordenação, é o mais antigo e mantém o título
+            for (Object id : ids.subList(1, ids.size())) {
+                String novoTitulo = titulo + " [" + id + "]";
+                mongoTemplate.updateFirst(
+                        Query.query(Criteria.where("_id").is(id)),
+                        new Update()
+                                .set("titulo", novoTitulo)
+                                .set("dataAtualizacao", LocalDateTime.now())
+                                .inc("versao", 1),
+                        Projeto.class);
+                log.warn("Título duplicado: projeto {} renomeado de \"{}\" para \"{}\"", id, titulo, novoTitulo);
+            }
+        }
+
+        if (!grupos.isEmpty()) {
+            log.info("{} títulos duplicados resolvidos antes da criação do índice {}", grupos.size(),
+                    Projeto.INDICE_TITULO);
+        }
+    }
+}
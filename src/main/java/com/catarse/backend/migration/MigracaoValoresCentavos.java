@@ -0,0 +1,73 @@
+package com.catarse.backend.migration;
+
+import com.catarse.backend.model.Doacao;
+import com.catarse.backend.model.EstatisticaCategoria;
+import com.catarse.backend.model.Projeto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+// Documentos antigos guardam valores em reais, como string ou Decimal128. Converte para Int64 em
+// centavos uma única vez por banco (ExecutorMigracoes), na inicialização do contexto, antes do servidor
+// web aceitar requisições.
+// Depois do registro nada é convertido de novo, porque um valor que não é long pode já estar em centavos.
+// As instâncias da versão anterior gravam em reais: precisam parar de receber doações antes da primeira
+// instância nova subir (etapa de release ou deploy com recriação, não rolling update).
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MigracaoValoresCentavos {
+
+    private static final String NOME = "valores-centavos";
+    private static final List<String> TIPOS_EM_REAIS = List.of("string", "decimal", "double");
+    private static final Map<Class<?>, List<String>> CAMPOS_POR_ENTIDADE = Map.of(
+            Projeto.class, List.of("meta_financeira", "valor_arrecadado"),
+            Doacao.class, List.of("valor"),
+            EstatisticaCategoria.class, List.of("valor_arrecadado"));
+
+    private final MongoTemplate mongoTemplate;
+    private final ExecutorMigracoes executor;
+
+    @PostConstruct
+    public void migrar() {
+        executor.executarUmaVez(NOME, this::converterTudo);
+    }
+
+    private void converterTudo() {
+        CAMPOS_POR_ENTIDADE.forEach((entidade, campos) -> {
+            String colecao = mongoTemplate.getCollectionName(entidade);
+            for (String campo : campos) {
+                // A conversão filtra pelo tipo BSON: se a trava expirar e outra instância assumir, o que
+                // já virou long não é tocado de novo
+                executor.renovar(NOME);
+                converter(colecao, campo);
+            }
+        });
+    }
+
+    private void converter(String colecao, String campo) {
+        Document emReais = new Document(campo, new Document("$type", TIPOS_EM_REAIS));
+        // Banco novo ou já convertido: nada a fazer, sem enviar o update com pipeline
+        if (mongoTemplate.getCollection(colecao).find(emReais).limit(1).first() == null) {
+            return;
+        }
+
+        Document centavos = new Document("$toLong", new Document("$round", List.of(
+                new Document("$multiply", List.of(new Document("$toDecimal", "$" + campo), 100)), 0)));
+
+        long convertidos = mongoTemplate.getCollection(colecao).updateMany(
+                        emReais,
+                        List.of(new Document("$set", new Document(campo, centavos))))
+                .getModifiedCount();
+
+        if (convertidos > 0) {
+            log.info("Campo {}.{} convertido para centavos (Int64) em {} documentos", colecao, campo, convertidos);
+        }
+    }
+}
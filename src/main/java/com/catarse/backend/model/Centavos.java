@@ -0,0 +1,33 @@
+package com.catarse.backend.model;
+
+import java.math.BigDecimal;
+
+// Valores monetários circulam como long de centavos; BigDecimal só na fronteira da API (entrada em reais)
+public final class Centavos {
+
+    private Centavos() {
+    }
+
+    public static long de(BigDecimal reais) {
+        try {
+            return reais.movePointRight(2).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Valor deve ter no máximo duas casas decimais");
+        }
+    }
+
+    // Reais com duas casas ("1234.50"), sem passar por BigDecimal
+    public static String formatar(long centavos) {
+        long absoluto = Math.abs(centavos);
+        long fracao = absoluto % 100;
+        return (centavos < 0 ? "-" : "") + absoluto / 100 + (fracao < 10 ? ".0" : ".") + fracao;
+    }
+
+    // Percentual com duas casas, arredondado para cima na metade (como RoundingMode.HALF_UP)
+    public static long percentualCentesimos(long parte, long total) {
+        if (total <= 0) {
+            return 0;
+        }
+        return Math.floorDiv(parte * 10_000 * 2 + total, total * 2);
+    }
+}
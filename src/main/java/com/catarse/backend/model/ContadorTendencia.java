@@ -0,0 +1,48 @@
+package com.catarse.backend.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Checkpoint das doações recentes de um projeto recebidas por uma instância (ranking de tendências)
+@Data
+@NoArgsConstructor
+@Document(collection = "tendencias_projetos")
+public class ContadorTendencia {
+
+    // instancia:projetoId
+    @Id
+    private String id;
+
+    @Indexed
+    private String instancia;
+
+    @Field("projeto_id")
+    private String projetoId;
+
+    // Baldes não vazios por janela (nome da janela -> baldes)
+    private Map<String, List<Balde>> janelas = new HashMap<>();
+
+    @Field("data_atualizacao")
+    private Instant dataAtualizacao;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Balde {
+
+        // Instante do balde dividido pela duração do balde
+        private long indice;
+        private long centavos;
+        private long doacoes;
+    }
+}
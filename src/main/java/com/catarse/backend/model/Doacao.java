@@ -0,0 +1,52 @@
+package com.catarse.backend.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+import java.time.LocalDateTime;
+
+// Registro de uma doação no modo ledger. A entrada é inserida uma única vez e só ganha o lote
+// (ao ser reservada pelo rollup) e a marca de aplicada (depois de somada ao projeto).
+@Data
+@NoArgsConstructor
+@Document(collection = "doacoes")
+@CompoundIndexes({
+        // Rollup: entradas sem lote, em ordem de chegada, e lotes reservados ainda não concluídos
+        @CompoundIndex(name = "aplicada_lote_id_idx", def = "{'aplicada': 1, 'lote': 1, '_id': 1}")
+})
+public class Doacao {
+
+    public static final String INDICE_CHAVE_IDEMPOTENCIA = "chave_idempotencia_unica";
+
+    @Id
+    private String id;
+
+    @Field("projeto_id")
+    private String projetoId;
+
+    // Centavos
+    @Field(targetType = FieldType.INT64)
+    private long valor;
+
+    // Sparse: doações sem Idempotency-Key não disputam o índice
+    @Indexed(name = INDICE_CHAVE_IDEMPOTENCIA, unique = true, sparse = true)
+    @Field("chave_idempotencia")
+    private String chaveIdempotencia;
+
+    private String lote;
+
+    // Valor reservado no valor_pendente do projeto ao ser aceita; entradas antigas não têm reserva a baixar
+    private boolean reservada;
+
+    private boolean aplicada;
+
+    @Field("data_criacao")
+    private LocalDateTime dataCriacao;
+}
@@ -0,0 +1,31 @@
+package com.catarse.backend.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// Agregados de uma categoria, mantidos por $inc a cada escrita em projetos (um documento por categoria)
+@Data
+@NoArgsConstructor
+@Document(collection = EstatisticaCategoria.COLECAO)
+public class EstatisticaCategoria {
+
+    public static final String COLECAO = "estatisticas_projetos";
+
+    @Id
+    private String categoria;
+
+    private long total;
+
+    private Map<Projeto.StatusProjeto, Long> status = new EnumMap<>(Projeto.StatusProjeto.class);
+
+    // Centavos
+    @Field(value = "valor_arrecadado", targetType = FieldType.INT64)
+    private long valorArrecadado;
+}
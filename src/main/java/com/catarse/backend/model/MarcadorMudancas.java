@@ -0,0 +1,25 @@
+package com.catarse.backend.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.Instant;
+
+// Último ponto do change stream de projetos já entregue aos ouvintes de uma instância
+@Data
+@NoArgsConstructor
+@Document(collection = "marcadores_mudancas")
+public class MarcadorMudancas {
+
+    @Id
+    private String instancia;
+
+    @Field("token_retomada")
+    private org.bson.Document tokenRetomada;
+
+    @Field("data_atualizacao")
+    private Instant dataAtualizacao;
+}
@@ -0,0 +1,24 @@
+package com.catarse.backend.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.Instant;
+
+// Migração de dados já concluída neste banco; a presença do documento impede que ela rode de novo
+@Data
+@NoArgsConstructor
+@Document(collection = "migracoes")
+public class MigracaoAplicada {
+
+    @Id
+    private String nome;
+
+    private String instancia;
+
+    @Field("concluida_em")
+    private Instant concluidaEm;
+}
@@ -3,30 +3,60 @@ package com.catarse.backend.model;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+import org.springframework.data.mongodb.core.mapping.TextScore;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
-
-@Document(collection = "projetos")
+import java.util.Set;
+
+@Document(collection = "projetos", language = "portuguese")
+// Índices das listagens: igualdade no filtro + ordenação por (data_criacao, _id), que também serve o keyset
+@CompoundIndexes({
+        @CompoundIndex(name = "data_criacao_id_idx", def = "{'data_criacao': -1, '_id': -1}"),
+        @CompoundIndex(name = "categoria_data_criacao_id_idx", def = "{'categoria': 1, 'data_criacao': -1, '_id': -1}"),
+        @CompoundIndex(name = "criador_data_criacao_id_idx", def = "{'criador_id': 1, 'data_criacao': -1, '_id': -1}"),
+        @CompoundIndex(name = "status_data_criacao_id_idx", def = "{'status': 1, 'data_criacao': -1, '_id': -1}"),
+        @CompoundIndex(name = "tags_data_criacao_id_idx", def = "{'tags': 1, 'data_criacao': -1, '_id': -1}"),
+        @CompoundIndex(name = "data_atualizacao_idx", def = "{'data_atualizacao': 1}"),
+        // Finalização de projetos com prazo vencido
+        @CompoundIndex(name = "status_data_limite_idx", def = "{'status': 1, 'data_limite': 1}")
+})
 public class Projeto {
 
+    // A unicidade do título é garantida pelo índice, criado por MigracaoTitulosUnicos depois de resolver
+    // duplicados; GlobalExceptionHandler traduz a violação pelo nome
+    public static final String INDICE_TITULO = "titulo_unico";
+
     @Id
     private String id;
 
+    // Índice textual da busca: pesos título > tags > descrição, com stemming em português
+    @TextIndexed(weight = 10)
     private String titulo;
+
+    @TextIndexed
     private String descricao;
     private String categoria;
 
-    @Field("meta_financeira")
-    private BigDecimal metaFinanceira;
+    // Valores em centavos, gravados como Int64: $inc, faixas e $sum no servidor sem conversão
+    @Field(value = "meta_financeira", targetType = FieldType.INT64)
+    private long metaFinanceira;
 
-    @Field("valor_arrecadado")
-    private BigDecimal valorArrecadado;
+    @Field(value = "valor_arrecadado", targetType = FieldType.INT64)
+    private long valorArrecadado;
+
+    // Modo ledger: doações aceitas que o rollup ainda não somou a valorArrecadado
+    @Field(value = "valor_pendente", targetType = FieldType.INT64)
+    private long valorPendente;
 
     @Field("data_limite")
     private LocalDate dataLimite;
@@ -34,7 +64,9 @@ public class Projeto {
     @Field("criador_id")
     private String criadorId;
 
+    @TextIndexed(weight = 5)
     private List<String> tags;
+
     private StatusProjeto status;
 
     @Field("imagem_url")
@@ -48,12 +80,19 @@ public class Projeto {
     @Field("data_atualizacao")
     private LocalDateTime dataAtualizacao;
 
+    // Incrementada por toda escrita no repositório; base dos ETags (documentos antigos começam em 0)
+    private long versao;
+
+    // Preenchida apenas nos resultados da busca textual; não é gravada
+    @TextScore
+    private Double relevancia;
+
     // Construtores
     public Projeto() {
     }
 
     public Projeto(String id, String titulo, String descricao, String categoria,
-                   BigDecimal metaFinanceira, BigDecimal valorArrecadado,
+                   long metaFinanceira, long valorArrecadado,
                    LocalDate dataLimite, String criadorId, List<String> tags,
                    StatusProjeto status, String imagemUrl,
                    LocalDateTime dataCriacao, LocalDateTime dataAtualizacao) {
@@ -90,11 +129,14 @@ public class Projeto {
     public String getCategoria() { return categoria; }
     public void setCategoria(String categoria) { this.categoria = categoria; }
 
-    public BigDecimal getMetaFinanceira() { return metaFinanceira; }
-    public void setMetaFinanceira(BigDecimal metaFinanceira) { this.metaFinanceira = metaFinanceira; }
+    public long getMetaFinanceira() { return metaFinanceira; }
+    public void setMetaFinanceira(long metaFinanceira) { this.metaFinanceira = metaFinanceira; }
+
+    public long getValorArrecadado() { return valorArrecadado; }
+    public void setValorArrecadado(long valorArrecadado) { this.valorArrecadado = valorArrecadado; }
 
-    public BigDecimal getValorArrecadado() { return valorArrecadado; }
-    public void setValorArrecadado(BigDecimal valorArrecadado) { this.valorArrecadado = valorArrecadado; }
+    public long getValorPendente() { return valorPendente; }
+    public void setValorPendente(long valorPendente) { this.valorPendente = valorPendente; }
 
     public LocalDate getDataLimite() { return dataLimite; }
     public void setDataLimite(LocalDate dataLimite) { this.dataLimite = dataLimite; }
@@ -117,14 +159,20 @@ public class Projeto {
     public LocalDateTime getDataAtualizacao() { return dataAtualizacao; }
     public void setDataAtualizacao(LocalDateTime dataAtualizacao) { this.dataAtualizacao = dataAtualizacao; }
 
+    public long getVersao() { return versao; }
+    public void setVersao(long versao) { this.versao = versao; }
+
+    public Double getRelevancia() { return relevancia; }
+    public void setRelevancia(Double relevancia) { this.relevancia = relevancia; }
+
     // Builder Pattern manual
     public static class Builder {
         private String id;
         private String titulo;
         private String descricao;
         private String categoria;
-        private BigDecimal metaFinanceira;
-        private BigDecimal valorArrecadado;
+        private long metaFinanceira;
+        private long valorArrecadado;
         private LocalDate dataLimite;
         private String criadorId;
         private List<String> tags;
@@ -137,8 +185,8 @@ public class Projeto {
         public Builder titulo(String titulo) { this.titulo = titulo; return this; }
         public Builder descricao(String descricao) { this.descricao = descricao; return this; }
         public Builder categoria(String categoria) { this.categoria = categoria; return this; }
-        public Builder metaFinanceira(BigDecimal metaFinanceira) { this.metaFinanceira = metaFinanceira; return this; }
-        public Builder valorArrecadado(BigDecimal valorArrecadado) { this.valorArrecadado = valorArrecadado; return this; }
+        public Builder metaFinanceira(long metaFinanceira) { this.metaFinanceira = metaFinanceira; return this; }
+        public Builder valorArrecadado(long valorArrecadado) { this.valorArrecadado = valorArrecadado; return this; }
         public Builder dataLimite(LocalDate dataLimite) { this.dataLimite = dataLimite; return this; }
         public Builder criadorId(String criadorId) { this.criadorId = criadorId; return this; }
         public Builder tags(List<String> tags) { this.tags = tags; return this; }
@@ -162,7 +210,11 @@ public class Projeto {
         CONCLUIDO,
         CANCELADO,
         FINALIZADO_COM_SUCESSO,
-        FINALIZADO_SEM_SUCESSO
+        FINALIZADO_SEM_SUCESSO;
+
+        public static final Set<StatusProjeto> ABERTOS_PARA_DOACAO = EnumSet.of(PUBLICADO, EM_ANDAMENTO);
+        // Projetos ainda não encerrados
+        public static final Set<StatusProjeto> CANCELAVEIS = EnumSet.of(RASCUNHO, PUBLICADO, EM_ANDAMENTO);
     }
 
     // equals, hashCode, toString
@@ -0,0 +1,24 @@
+package com.catarse.backend.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.Instant;
+
+// Trava com prazo para tarefas que só uma instância deve executar por vez
+@Data
+@NoArgsConstructor
+@Document(collection = "travas")
+public class Trava {
+
+    @Id
+    private String nome;
+
+    private String dono;
+
+    @Field("expira_em")
+    private Instant expiraEm;
+}
@@ -0,0 +1,70 @@
+package com.catarse.backend.repository;
+
+import com.catarse.backend.dto.CursorProjeto;
+import com.catarse.backend.dto.FiltroProjeto;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.Collection;
+
+// Filtros e projeções de projetos compartilhados pelos repositórios bloqueante e reativo
+public final class ConsultasProjeto {
+
+    // Campos de ProjetoSummary: deixa de fora descricao (até 5000 caracteres) e os campos internos
+    public static final String[] CAMPOS_RESUMO = {
+            "titulo", "categoria", "status", "metaFinanceira", "valorArrecadado", "dataLimite", "imagemUrl", "versao"};
+
+    // Ordem da listagem por cursor, servida pelos índices (..., data_criacao, _id)
+    public static final Sort ORDEM_CURSOR = Sort.by(Sort.Direction.DESC, "dataCriacao", "id");
+
+    private ConsultasProjeto() {
+    }
+
+    public static Criteria criterios(FiltroProjeto filtro) {
+        Criteria criteria = new Criteria();
+
+        if (filtro.getCategoria() != null) {
+            criteria.and("categoria").is(filtro.getCategoria());
+        }
+        if (filtro.getCriadorId() != null) {
+            criteria.and("criadorId").is(filtro.getCriadorId());
+        }
+        if (filtro.getStatus() != null) {
+            criteria.and("status").is(filtro.getStatus());
+        }
+        // Operadores de tags no mesmo campo: { tags: { $in, $all, $nin } }
+        if (temItens(filtro.getTags()) || temItens(filtro.getTagsTodas()) || temItens(filtro.getTagsExcluidas())) {
+            Criteria tags = criteria.and("tags");
+            if (temItens(filtro.getTags())) {
+                tags.in(filtro.getTags());
+            }
+            if (temItens(filtro.getTagsTodas())) {
+                tags.all(filtro.getTagsTodas());
+            }
+            if (temItens(filtro.getTagsExcluidas())) {
+                tags.nin(filtro.getTagsExcluidas());
+            }
+        }
+        if (filtro.getAtualizadoDesde() != null) {
+            criteria.and("dataAtualizacao").gte(filtro.getAtualizadoDesde());
+        }
+
+        return criteria;
+    }
+
+    // Keyset: continua estritamente depois de (data_criacao, _id), sem skip nem count
+    public static Criteria criteriosCursor(FiltroProjeto filtro, CursorProjeto apos) {
+        Criteria criteria = criterios(filtro);
+        if (apos == null) {
+            return criteria;
+        }
+
+        return criteria.orOperator(
+                Criteria.where("dataCriacao").lt(apos.dataCriacao()),
+                Criteria.where("dataCriacao").is(apos.dataCriacao()).and("id").lt(apos.id()));
+    }
+
+    private static boolean temItens(Collection<?> valores) {
+        return valores != null && !valores.isEmpty();
+    }
+}
@@ -0,0 +1,62 @@
+package com.catarse.backend.repository;
+
+import com.catarse.backend.model.ContadorTendencia;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ContadorTendenciaRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public List<ContadorTendencia> carregar(String instancia) {
+        return mongoTemplate.find(new Query(Criteria.where("instancia").is(instancia)), ContadorTendencia.class);
+    }
+
+    public List<ContadorTendencia> carregarOutras(String instancia) {
+        return mongoTemplate.find(new Query(Criteria.where("instancia").ne(instancia)), ContadorTendencia.class);
+    }
+
+    // Checkpoints sem atualização há mais que a maior janela: de instâncias que não voltaram, já sem baldes válidos
+    public void removerAnteriores(Instant limite) {
+        mongoTemplate.remove(new Query(Criteria.where("dataAtualizacao").lt(limite)), ContadorTendencia.class);
+    }
+
+    // Um único bulk por checkpoint: upsert das séries alteradas e remoção das que esvaziaram
+    public void salvar(String instancia, Collection<ContadorTendencia> contadores, Collection<String> removidos) {
+        if (contadores.isEmpty() && removidos.isEmpty()) {
+            return;
+        }
+
+        BulkOperations operacoes = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ContadorTendencia.class);
+        Instant agora = Instant.now();
+
+        for (ContadorTendencia contador : contadores) {
+            operacoes.upsert(new Query(Criteria.where("id").is(id(instancia, contador.getProjetoId()))),
+                    new Update()
+                            .set("instancia", instancia)
+                            .set("projetoId", contador.getProjetoId())
+                            .set("janelas", contador.getJanelas())
+                            .set("dataAtualizacao", agora));
+        }
+        if (!removidos.isEmpty()) {
+            operacoes.remove(new Query(Criteria.where("id").in(removidos.stream().map(p -> id(instancia, p)).toList())));
+        }
+
+        operacoes.execute();
+    }
+
+    private static String id(String instancia, String projetoId) {
+        return instancia + ":" + projetoId;
+    }
+}
@@ -0,0 +1,69 @@
+package com.catarse.backend.repository;
+
+import com.catarse.backend.model.Doacao;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class DoacaoRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public Doacao inserir(Doacao doacao) {
+        return mongoTemplate.insert(doacao);
+    }
+
+    public Optional<Doacao> buscarPorChave(String chaveIdempotencia) {
+        return Optional.ofNullable(mongoTemplate.findOne(
+                new Query(Criteria.where("chaveIdempotencia").is(chaveIdempotencia)), Doacao.class));
+    }
+
+    // Lote reservado por uma execução que não chegou a concluí-lo
+    public Optional<String> buscarLoteInacabado() {
+        Query query = new Query(Criteria.where("aplicada").is(false).and("lote").ne(null));
+        query.fields().include("lote");
+
+        return Optional.ofNullable(mongoTemplate.findOne(query, Doacao.class)).map(Doacao::getLote);
+    }
+
+    // Marca as entradas mais antigas ainda sem lote; devolve quantas foram reservadas
+    public long reservarLote(String lote, int limite) {
+        Query pendentes = new Query(Criteria.where("aplicada").is(false).and("lote").is(null))
+                .with(Sort.by("id"))
+                .limit(limite);
+        pendentes.fields().include("id");
+
+        List<String> ids = mongoTemplate.find(pendentes, Doacao.class).stream().map(Doacao::getId).toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        return mongoTemplate.updateMulti(
+                new Query(Criteria.where("id").in(ids).and("lote").is(null)),
+                new Update().set("lote", lote),
+                Doacao.class).getModifiedCount();
+    }
+
+    public List<Doacao> buscarLote(String lote) {
+        Query query = new Query(Criteria.where("aplicada").is(false).and("lote").is(lote));
+        query.fields().include("projetoId", "valor", "reservada");
+
+        return mongoTemplate.find(query, Doacao.class);
+    }
+
+    public void concluirLote(String lote) {
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where("aplicada").is(false).and("lote").is(lote)),
+                new Update().set("aplicada", true),
+                Doacao.class);
+    }
+}
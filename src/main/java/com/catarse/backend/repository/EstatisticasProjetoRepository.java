@@ -0,0 +1,206 @@
+package com.catarse.backend.repository;
+
+import com.catarse.backend.model.EstatisticaCategoria;
+import com.catarse.backend.model.Projeto;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Escritas incrementais em estatisticas_projetos. Chamado por ProjetoRepositoryImpl depois de cada
+// escrita em projetos; reconstruir() recalcula tudo a partir da coleção de projetos.
+// As estatísticas são secundárias: uma falha aqui é registrada em log e nunca desfaz nem falha a escrita
+// no projeto, que já foi aplicada (a diferença some na próxima reconstrução).
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class EstatisticasProjetoRepository {
+
+    // ConcurrentHashMap não aceita chave nula; projetos sem categoria ficam no documento de categoria null
+    private static final String SEM_CATEGORIA = "\u0000sem-categoria";
+
+    private final MongoTemplate mongoTemplate;
+
+    // Arrecadação das doações acumulada por categoria e gravada em lote por gravarArrecadacao()
+    private final Map<String, LongAdder> arrecadacaoPendente = new ConcurrentHashMap<>();
+
+    private static final class Variacao {
+        long total;
+        final Map<Projeto.StatusProjeto, Long> status = new EnumMap<>(Projeto.StatusProjeto.class);
+        long valorArrecadado;
+    }
+
+    public void registrarCriados(Collection<Projeto> projetos) {
+        Map<String, Variacao> variacoes = new HashMap<>();
+        projetos.forEach(projeto -> somar(variacoes, projeto.getCategoria(), projeto, 1));
+        aplicar(variacoes);
+    }
+
+    public void registrarRemovido(Projeto projeto) {
+        Map<String, Variacao> variacoes = new HashMap<>();
+        somar(variacoes, projeto.getCategoria(), projeto, -1);
+        aplicar(variacoes);
+    }
+
+    public void registrarMudancaCategoria(String categoriaAnterior, Projeto projeto) {
+        Map<String, Variacao> variacoes = new HashMap<>();
+        somar(variacoes, categoriaAnterior, projeto, -1);
+        somar(variacoes, projeto.getCategoria(), projeto, 1);
+        aplicar(variacoes);
+    }
+
+    public void registrarStatus(String categoria, Projeto.StatusProjeto anterior, Projeto.StatusProjeto novo) {
+        if (anterior == novo) {
+            return;
+        }
+
+        Variacao variacao = new Variacao();
+        variacao.status.merge(anterior, -1L, Long::sum);
+        variacao.status.merge(novo, 1L, Long::sum);
+        aplicar(Map.of(categoria, variacao));
+    }
+
+    public void registrarTransicoes(Collection<Projeto> anteriores, Projeto.StatusProjeto novo) {
+        Map<String, Variacao> variacoes = new HashMap<>();
+        for (Projeto projeto : anteriores) {
+            if (projeto.getStatus() != novo) {
+                Variacao variacao = variacoes.computeIfAbsent(projeto.getCategoria(), c -> new Variacao());
+                variacao.status.merge(projeto.getStatus(), -1L, Long::sum);
+                variacao.status.merge(novo, 1L, Long::sum);
+            }
+        }
+        aplicar(variacoes);
+    }
+
+    // Centavos arrecadados: só acumula em memória, sem acesso ao MongoDB no caminho da doação
+    public void registrarArrecadacao(String categoria, long centavos) {
+        arrecadacaoPendente.computeIfAbsent(categoria == null ? SEM_CATEGORIA : categoria, c -> new LongAdder())
+                .add(centavos);
+    }
+
+    // Um upsert por categoria com doações no intervalo; em caso de falha os valores voltam para o próximo ciclo
+    @Scheduled(fixedDelayString = "${catarse.estatisticas.intervalo-gravacao-ms:1000}")
+    public void gravarArrecadacao() {
+        Map<String, Long> valores = new HashMap<>();
+        arrecadacaoPendente.forEach((chave, acumulado) -> {
+            long valor = acumulado.sumThenReset();
+            if (valor != 0) {
+                valores.put(chave, valor);
+            }
+        });
+        if (valores.isEmpty()) {
+            return;
+        }
+
+        Map<String, Variacao> variacoes = new HashMap<>();
+        valores.forEach((chave, valor) -> variacoes.computeIfAbsent(SEM_CATEGORIA.equals(chave) ? null : chave,
+                c -> new Variacao()).valorArrecadado = valor);
+
+        try {
+            executar(variacoes);
+        } catch (RuntimeException e) {
+            valores.forEach((chave, valor) -> arrecadacaoPendente.get(chave).add(valor));
+            log.warn("Falha ao gravar arrecadação nas estatísticas, nova tentativa no próximo ciclo: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void encerrar() {
+        gravarArrecadacao();
+    }
+
+    public List<EstatisticaCategoria> listar() {
+        return mongoTemplate.findAll(EstatisticaCategoria.class);
+    }
+
+    public boolean vazio() {
+        return !mongoTemplate.exists(new Query(), EstatisticaCategoria.class);
+    }
+
+    // Recalcula a coleção inteira com $group + $out (substituição atômica). Escritas concorrentes
+    // durante a reconstrução podem ficar de fora; a próxima reconstrução as recupera.
+    public void reconstruir() {
+        // O que ainda está acumulado já consta nos projetos lidos pela agregação
+        arrecadacaoPendente.values().forEach(LongAdder::reset);
+
+        List<Document> pipeline = List.of(
+                new Document("$group", new Document("_id",
+                        new Document("categoria", "$categoria").append("status", "$status"))
+                        .append("quantidade", new Document("$sum", 1L))
+                        .append("valor", new Document("$sum", "$valor_arrecadado"))),
+                new Document("$group", new Document("_id", "$_id.categoria")
+                        .append("total", new Document("$sum", "$quantidade"))
+                        .append("valor_arrecadado", new Document("$sum", "$valor"))
+                        .append("status", new Document("$push",
+                                new Document("k", "$_id.status").append("v", "$quantidade")))),
+                new Document("$addFields", new Document("status", new Document("$arrayToObject", "$status"))
+                        .append("valor_arrecadado", new Document("$toLong", "$valor_arrecadado"))),
+                new Document("$out", EstatisticaCategoria.COLECAO));
+
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Projeto.class))
+                .aggregate(pipeline)
+                .toCollection();
+    }
+
+    private static void somar(Map<String, Variacao> variacoes, String categoria, Projeto projeto, int sinal) {
+        Variacao variacao = variacoes.computeIfAbsent(categoria, c -> new Variacao());
+        variacao.total += sinal;
+        if (projeto.getStatus() != null) {
+            variacao.status.merge(projeto.getStatus(), (long) sinal, Long::sum);
+        }
+        variacao.valorArrecadado += sinal * projeto.getValorArrecadado();
+    }
+
+    private void aplicar(Map<String, Variacao> variacoes) {
+        try {
+            executar(variacoes);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao atualizar estatísticas de projetos (reconstrua se necessário): {}", e.getMessage());
+        }
+    }
+
+    private void executar(Map<String, Variacao> variacoes) {
+        BulkOperations operacoes = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EstatisticaCategoria.class);
+        int pendentes = 0;
+
+        for (Map.Entry<String, Variacao> entrada : variacoes.entrySet()) {
+            Variacao variacao = entrada.getValue();
+            Update update = new Update();
+            if (variacao.total != 0) {
+                update.inc("total", variacao.total);
+            }
+            variacao.status.forEach((status, quantidade) -> {
+                if (quantidade != 0) {
+                    update.inc("status." + status.name(), quantidade);
+                }
+            });
+            if (variacao.valorArrecadado != 0) {
+                update.inc("valorArrecadado", variacao.valorArrecadado);
+            }
+
+            if (!update.getUpdateObject().isEmpty()) {
+                operacoes.upsert(new Query(Criteria.where("categoria").is(entrada.getKey())), update);
+                pendentes++;
+            }
+        }
+
+        if (pendentes > 0) {
+            operacoes.execute();
+        }
+    }
+}
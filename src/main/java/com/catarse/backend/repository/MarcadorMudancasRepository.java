@@ -0,0 +1,39 @@
+package com.catarse.backend.repository;
+
+import com.catarse.backend.model.MarcadorMudancas;
+import lombok.RequiredArgsConstructor;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class MarcadorMudancasRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public Optional<BsonDocument> buscarToken(String instancia) {
+        return Optional.ofNullable(mongoTemplate.findById(instancia, MarcadorMudancas.class))
+                .map(MarcadorMudancas::getTokenRetomada)
+                .map(token -> BsonDocument.parse(token.toJson()));
+    }
+
+    public void salvarToken(String instancia, BsonDocument token) {
+        mongoTemplate.upsert(new Query(Criteria.where("instancia").is(instancia)),
+                new Update()
+                        .set("tokenRetomada", Document.parse(token.toJson()))
+                        .set("dataAtualizacao", Instant.now()),
+                MarcadorMudancas.class);
+    }
+
+    public void remover(String instancia) {
+        mongoTemplate.remove(new Query(Criteria.where("instancia").is(instancia)), MarcadorMudancas.class);
+    }
+}
@@ -0,0 +1,10 @@
+package com.catarse.backend.repository;
+
+import com.catarse.backend.model.Projeto;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+// Leituras do perfil reactive; escritas continuam em ProjetoRepository, que mantém versão e estatísticas
+@Repository
+public interface ProjetoReactiveRepository extends ReactiveMongoRepository<Projeto, String>, ProjetoReactiveRepositoryCustom {
+}
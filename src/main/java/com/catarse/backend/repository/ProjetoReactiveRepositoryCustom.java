@@ -0,0 +1,20 @@
+package com.catarse.backend.repository;
+
+import com.catarse.backend.dto.CursorProjeto;
+import com.catarse.backend.dto.FiltroProjeto;
+import com.catarse.backend.model.Projeto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ProjetoReactiveRepositoryCustom {
+
+    Mono<Long> buscarVersao(String id);
+
+    Mono<Page<Projeto>> buscarPorFiltro(FiltroProjeto filtro, Pageable pageable, boolean somenteResumo);
+
+    Flux<Projeto> buscarPorCursor(FiltroProjeto filtro, CursorProjeto apos, int limite);
+
+    Flux<Projeto> streamPorFiltro(FiltroProjeto filtro);
+}
@@ -0,0 +1,68 @@
+package com.catarse.backend.repository;
+
+import com.catarse.backend.dto.CursorProjeto;
+import com.catarse.backend.dto.FiltroProjeto;
+import com.catarse.backend.model.Projeto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class ProjetoReactiveRepositoryImpl implements ProjetoReactiveRepositoryCustom {
+
+    private static final int TAMANHO_LOTE_CURSOR = 500;
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    @Override
+    public Mono<Long> buscarVersao(String id) {
+        Query query = new Query(Criteria.where("id").is(id));
+        query.fields().include("versao");
+
+        return mongoTemplate.findOne(query, Projeto.class).map(Projeto::getVersao);
+    }
+
+    @Override
+    public Mono<Page<Projeto>> buscarPorFiltro(FiltroProjeto filtro, Pageable pageable, boolean somenteResumo) {
+        Query query = new Query(ConsultasProjeto.criterios(filtro)).with(pageable);
+        if (somenteResumo) {
+            query.fields().include(ConsultasProjeto.CAMPOS_RESUMO);
+        }
+
+        // Mesma regra de PageableExecutionUtils: o count só roda quando a página não revela o total sozinha
+        return mongoTemplate.find(query, Projeto.class).collectList()
+                .<Page<Projeto>>flatMap(projetos -> {
+                    if (pageable.isUnpaged() || (pageable.getOffset() == 0 && projetos.size() < pageable.getPageSize())) {
+                        return Mono.just(new PageImpl<>(projetos, pageable, projetos.size()));
+                    }
+                    if (!projetos.isEmpty() && projetos.size() < pageable.getPageSize()) {
+                        return Mono.just(new PageImpl<>(projetos, pageable, pageable.getOffset() + projetos.size()));
+                    }
+                    return mongoTemplate.count(Query.of(query).limit(-1).skip(-1), Projeto.class)
+                            .map(total -> new PageImpl<>(projetos, pageable, total));
+                });
+    }
+
+    @Override
+    public Flux<Projeto> buscarPorCursor(FiltroProjeto filtro, CursorProjeto apos, int limite) {
+        Query query = new Query(ConsultasProjeto.criteriosCursor(filtro, apos))
+                .with(ConsultasProjeto.ORDEM_CURSOR)
+                .limit(limite);
+
+        return mongoTemplate.find(query, Projeto.class);
+    }
+
+    @Override
+    public Flux<Projeto> streamPorFiltro(FiltroProjeto filtro) {
+        // O driver pede o próximo lote conforme a demanda do assinante: um cliente lento segura o cursor
+        Query query = new Query(ConsultasProjeto.criterios(filtro)).cursorBatchSize(TAMANHO_LOTE_CURSOR);
+
+        return mongoTemplate.find(query, Projeto.class);
+    }
+}
@@ -6,12 +6,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
-
 @Repository
-public interface ProjetoRepository extends MongoRepository<Projeto, String> {
-
-    Optional<Projeto> findByTitulo(String titulo);
+public interface ProjetoRepository extends MongoRepository<Projeto, String>, ProjetoRepositoryCustom {
 
     Page<Projeto> findByCategoria(String categoria, Pageable pageable);
 
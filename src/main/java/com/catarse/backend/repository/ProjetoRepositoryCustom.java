@@ -0,0 +1,83 @@
+package com.catarse.backend.repository;
+
+import com.catarse.backend.dto.CursorBusca;
+import com.catarse.backend.dto.CursorProjeto;
+import com.catarse.backend.dto.FacetaTag;
+import com.catarse.backend.dto.FiltroProjeto;
+import com.catarse.backend.model.Projeto;
+import com.mongodb.bulk.BulkWriteError;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface ProjetoRepositoryCustom {
+
+    // Criação e remoção passam por aqui (e não por save/deleteById) para manter as estatísticas
+    Projeto criar(Projeto projeto);
+
+    Optional<Projeto> remover(String id);
+
+    Optional<Projeto> adicionarArrecadacao(String id, long centavos, LocalDate hoje);
+
+    // Modo ledger: soma ao valor pendente só se o projeto está aberto e ainda abaixo da meta
+    Optional<Projeto> reservarArrecadacao(String id, long centavos, LocalDate hoje);
+
+    void liberarReserva(String id, long centavos);
+
+    Optional<Projeto> alterarStatus(String id, Collection<Projeto.StatusProjeto> statusAtuais,
+                                    Projeto.StatusProjeto novoStatus);
+
+    Optional<Projeto> atualizarDados(String id, Projeto dados);
+
+    // Incrementos em centavos por projeto; reservados é a parte que sai do valor pendente (reservas do ledger)
+    void aplicarLoteArrecadacao(String loteId, Map<String, Long> incrementos, Map<String, Long> reservados);
+
+    // Projetos abertos com prazo vencido, com os campos necessários para decidir o status final
+    List<Projeto> buscarExpirados(LocalDate hoje, int limite);
+
+    long contarExpirados(LocalDate hoje);
+
+    // Aplica os status finais em um único bulk write; devolve quantos projetos foram alterados
+    int finalizar(Map<Projeto.StatusProjeto, List<Projeto>> porStatus, LocalDate hoje);
+
+    List<Projeto> buscarPorCursor(FiltroProjeto filtro, CursorProjeto apos, int limite);
+
+    // Busca textual ordenada por relevância, com os campos de ProjetoSummary e a relevância preenchidos
+    List<Projeto> buscarTexto(String termos, FiltroProjeto filtro, CursorBusca apos, int limite);
+
+    // Só o campo versao, para responder If-None-Match sem carregar o documento
+    Optional<Long> buscarVersao(String id);
+
+    // Página com apenas os campos de ProjetoSummary preenchidos
+    Page<Projeto> buscarResumos(FiltroProjeto filtro, Pageable pageable);
+
+    Page<Projeto> buscarPorFiltro(FiltroProjeto filtro, Pageable pageable);
+
+    // Na ordem dos ids recebidos; ids inexistentes ficam de fora
+    List<Projeto> buscarPorIds(List<String> ids, boolean somenteResumo);
+
+    // Apenas id, categoria e status, para decidir uma alteração de status em lote
+    List<Projeto> buscarStatus(Collection<String> ids);
+
+    // Um updateMany condicionado ao status atual; devolve quantos projetos foram alterados
+    long alterarStatusEmLote(List<Projeto> candidatos, Collection<Projeto.StatusProjeto> statusAtuais,
+                             Projeto.StatusProjeto novoStatus);
+
+    // Tags mais frequentes entre os projetos do filtro
+    List<FacetaTag> contarTags(FiltroProjeto filtro, int limite);
+
+    // Apenas id e tags, em ordem de criação; todos os projetos quando atualizadoDesde é nulo
+    Stream<Projeto> streamTags(LocalDateTime atualizadoDesde);
+
+    Stream<Projeto> streamPorFiltro(FiltroProjeto filtro);
+
+    // Insere sem ordem e devolve as falhas individuais (índices relativos à lista recebida)
+    List<BulkWriteError> inserirLote(List<Projeto> projetos);
+}
@@ -0,0 +1,449 @@
+package com.catarse.backend.repository;
+
+import com.catarse.backend.dto.CursorBusca;
+import com.catarse.backend.dto.CursorProjeto;
+import com.catarse.backend.dto.FacetaTag;
+import com.catarse.backend.dto.FiltroProjeto;
+import com.catarse.backend.model.Projeto;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ProjetoRepositoryImpl implements ProjetoRepositoryCustom {
+
+    // Ids dos últimos lotes aplicados em cada documento: reaplicar um lote após uma falha não duplica valores
+    private static final String CAMPO_LOTES_DOACAO = "lotes_doacao";
+    private static final int LOTES_RETIDOS = 50;
+
+    private static final int TAMANHO_LOTE_CURSOR = 500;
+
+    private static final String IDIOMA_BUSCA = "portuguese";
+    private static final String CAMPO_RELEVANCIA = "relevancia";
+
+    private static final FindAndModifyOptions RETORNAR_NOVO = FindAndModifyOptions.options().returnNew(true);
+
+    private final MongoTemplate mongoTemplate;
+    private final EstatisticasProjetoRepository estatisticas;
+
+    @Override
+    public Projeto criar(Projeto projeto) {
+        Projeto criado = mongoTemplate.insert(projeto);
+        estatisticas.registrarCriados(List.of(criado));
+        return criado;
+    }
+
+    @Override
+    public Optional<Projeto> remover(String id) {
+        Optional<Projeto> removido = Optional.ofNullable(
+                mongoTemplate.findAndRemove(new Query(Criteria.where("id").is(id)), Projeto.class));
+        removido.ifPresent(estatisticas::registrarRemovido);
+        return removido;
+    }
+
+    @Override
+    public Optional<Projeto> adicionarArrecadacao(String id, long centavos, LocalDate hoje) {
+        // Incremento no servidor, condicionado ao status e ao prazo: sem leitura prévia nem perda de doações concorrentes
+        Query query = new Query(Criteria.where("id").is(id)
+                .and("status").in(Projeto.StatusProjeto.ABERTOS_PARA_DOACAO)
+                .and("dataLimite").gte(hoje));
+
+        Update update = novaVersao(LocalDateTime.now())
+                .inc("valorArrecadado", centavos);
+
+        Optional<Projeto> projeto = Optional.ofNullable(
+                mongoTemplate.findAndModify(query, update, RETORNAR_NOVO, Projeto.class));
+        projeto.ifPresent(p -> estatisticas.registrarArrecadacao(p.getCategoria(), centavos));
+        return projeto;
+    }
+
+    @Override
+    public Optional<Projeto> reservarArrecadacao(String id, long centavos, LocalDate hoje) {
+        // Checagem da meta e reserva num único findAndModify: doações concorrentes não passam juntas da meta
+        Document abaixoDaMeta = new Document("$lt", List.of(
+                new Document("$add", List.of("$valor_arrecadado", new Document("$ifNull", List.of("$valor_pendente", 0L)))),
+                "$meta_financeira"));
+        Query query = new Query(Criteria.where("id").is(id)
+                .and("status").in(Projeto.StatusProjeto.ABERTOS_PARA_DOACAO)
+                .and("dataLimite").gte(hoje)
+                .andOperator(Criteria.expr(() -> abaixoDaMeta)));
+
+        Update update = novaVersao(LocalDateTime.now())
+                .inc("valorPendente", centavos);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update, RETORNAR_NOVO, Projeto.class));
+    }
+
+    @Override
+    public void liberarReserva(String id, long centavos) {
+        mongoTemplate.updateFirst(new Query(Criteria.where("id").is(id)),
+                novaVersao(LocalDateTime.now()).inc("valorPendente", -centavos), Projeto.class);
+    }
+
+    @Override
+    public Optional<Projeto> alterarStatus(String id, Collection<Projeto.StatusProjeto> statusAtuais,
+                                           Projeto.StatusProjeto novoStatus) {
+        Query query = new Query(Criteria.where("id").is(id).and("status").in(statusAtuais));
+
+        LocalDateTime agora = agora();
+        Update update = novaVersao(agora)
+                .set("status", novoStatus);
+
+        // Devolve o documento anterior: o status de origem exato alimenta as estatísticas
+        Projeto projeto = mongoTemplate.findAndModify(query, update, Projeto.class);
+        if (projeto == null) {
+            return Optional.empty();
+        }
+
+        estatisticas.registrarStatus(projeto.getCategoria(), projeto.getStatus(), novoStatus);
+        projeto.setStatus(novoStatus);
+        return Optional.of(comNovaVersao(projeto, agora));
+    }
+
+    @Override
+    public Optional<Projeto> atualizarDados(String id, Projeto dados) {
+        // Apenas os campos editáveis: não sobrescreve valor arrecadado nem status alterados em paralelo
+        LocalDateTime agora = agora();
+        Update update = novaVersao(agora)
+                .set("titulo", dados.getTitulo())
+                .set("descricao", dados.getDescricao())
+                .set("categoria", dados.getCategoria())
+                .set("metaFinanceira", dados.getMetaFinanceira())
+                .set("dataLimite", dados.getDataLimite())
+                .set("tags", dados.getTags())
+                .set("imagemUrl", dados.getImagemUrl());
+
+        // Documento anterior, para mover o projeto entre categorias nas estatísticas
+        Projeto projeto = mongoTemplate.findAndModify(new Query(Criteria.where("id").is(id)), update, Projeto.class);
+        if (projeto == null) {
+            return Optional.empty();
+        }
+
+        String categoriaAnterior = projeto.getCategoria();
+        projeto.setTitulo(dados.getTitulo());
+        projeto.setDescricao(dados.getDescricao());
+        projeto.setCategoria(dados.getCategoria());
+        projeto.setMetaFinanceira(dados.getMetaFinanceira());
+        projeto.setDataLimite(dados.getDataLimite());
+        projeto.setTags(dados.getTags());
+        projeto.setImagemUrl(dados.getImagemUrl());
+
+        if (!Objects.equals(categoriaAnterior, projeto.getCategoria())) {
+            estatisticas.registrarMudancaCategoria(categoriaAnterior, projeto);
+        }
+        return Optional.of(comNovaVersao(projeto, agora));
+    }
+
+    @Override
+    public void aplicarLoteArrecadacao(String loteId, Map<String, Long> incrementos, Map<String, Long> reservados) {
+        BulkOperations operacoes = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Projeto.class);
+        LocalDateTime agora = LocalDateTime.now();
+
+        incrementos.forEach((id, centavos) -> {
+            Update update = novaVersao(agora)
+                    .inc("valorArrecadado", centavos);
+            long reservado = reservados.getOrDefault(id, 0L);
+            if (reservado != 0) {
+                update.inc("valorPendente", -reservado);
+            }
+            update.push(CAMPO_LOTES_DOACAO).slice(-LOTES_RETIDOS).each(loteId);
+
+            operacoes.updateOne(new Query(Criteria.where("id").is(id).and(CAMPO_LOTES_DOACAO).ne(loteId)), update);
+        });
+
+        int modificados = operacoes.execute().getModifiedCount();
+
+        // Lote reaplicado após falha: não há como saber quais projetos já tinham recebido o valor
+        if (modificados != incrementos.size()) {
+            log.warn("Lote {} aplicado em {} de {} projetos; estatísticas não atualizadas (reconstrua se necessário)",
+                    loteId, modificados, incrementos.size());
+            return;
+        }
+
+        // O lote já foi aplicado: uma falha aqui não pode fazê-lo ser tratado como pendente
+        try {
+            Query categorias = new Query(Criteria.where("id").in(incrementos.keySet()));
+            categorias.fields().include("categoria");
+
+            mongoTemplate.find(categorias, Projeto.class).forEach(projeto ->
+                    estatisticas.registrarArrecadacao(projeto.getCategoria(), incrementos.get(projeto.getId())));
+        } catch (RuntimeException e) {
+            log.warn("Lote {} aplicado sem atualizar estatísticas (reconstrua se necessário): {}", loteId, e.getMessage());
+        }
+    }
+
+    @Override
+    public List<Projeto> buscarExpirados(LocalDate hoje, int limite) {
+        Query query = new Query(criteriosExpirados(hoje)).limit(limite);
+        query.fields().include("categoria", "status", "valorArrecadado", "metaFinanceira");
+
+        return mongoTemplate.find(query, Projeto.class);
+    }
+
+    @Override
+    public long contarExpirados(LocalDate hoje) {
+        return mongoTemplate.count(new Query(criteriosExpirados(hoje)), Projeto.class);
+    }
+
+    @Override
+    public int finalizar(Map<Projeto.StatusProjeto, List<Projeto>> porStatus, LocalDate hoje) {
+        BulkOperations operacoes = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Projeto.class);
+        LocalDateTime agora = LocalDateTime.now();
+        int esperados = 0;
+
+        // Um updateMany por status de destino; o filtro repete as condições de expiração
+        for (Map.Entry<Projeto.StatusProjeto, List<Projeto>> grupo : porStatus.entrySet()) {
+            if (grupo.getValue().isEmpty()) {
+                continue;
+            }
+            List<String> ids = grupo.getValue().stream().map(Projeto::getId).toList();
+            operacoes.updateMulti(new Query(criteriosExpirados(hoje).and("id").in(ids)),
+                    novaVersao(agora).set("status", grupo.getKey()));
+            esperados += ids.size();
+        }
+
+        if (esperados == 0) {
+            return 0;
+        }
+
+        int modificados = operacoes.execute().getModifiedCount();
+        if (modificados == esperados) {
+            porStatus.forEach((status, projetos) -> estatisticas.registrarTransicoes(projetos, status));
+        } else {
+            log.warn("Finalização alterou {} de {} projetos; estatísticas não atualizadas (reconstrua se necessário)",
+                    modificados, esperados);
+        }
+        return modificados;
+    }
+
+    @Override
+    public List<Projeto> buscarStatus(Collection<String> ids) {
+        Query query = new Query(Criteria.where("id").in(ids));
+        query.fields().include("categoria", "status");
+
+        return mongoTemplate.find(query, Projeto.class);
+    }
+
+    @Override
+    public long alterarStatusEmLote(List<Projeto> candidatos, Collection<Projeto.StatusProjeto> statusAtuais,
+                                    Projeto.StatusProjeto novoStatus) {
+        if (candidatos.isEmpty()) {
+            return 0;
+        }
+
+        List<String> ids = candidatos.stream().map(Projeto::getId).toList();
+        long modificados = mongoTemplate.updateMulti(
+                        new Query(Criteria.where("id").in(ids).and("status").in(statusAtuais)),
+                        novaVersao(LocalDateTime.now()).set("status", novoStatus),
+                        Projeto.class)
+                .getModifiedCount();
+
+        // Algum candidato mudou de status entre a leitura e o updateMany: não há como saber o status de origem
+        if (modificados == candidatos.size()) {
+            estatisticas.registrarTransicoes(candidatos, novoStatus);
+        } else {
+            log.warn("Alteração em lote para {} mudou {} de {} projetos; estatísticas não atualizadas (reconstrua se necessário)",
+                    novoStatus, modificados, candidatos.size());
+        }
+        return modificados;
+    }
+
+    @Override
+    public List<Projeto> buscarPorCursor(FiltroProjeto filtro, CursorProjeto apos, int limite) {
+        Query query = new Query(ConsultasProjeto.criteriosCursor(filtro, apos))
+                .with(ConsultasProjeto.ORDEM_CURSOR)
+                .limit(limite);
+
+        return mongoTemplate.find(query, Projeto.class);
+    }
+
+    @Override
+    public List<Projeto> buscarTexto(String termos, FiltroProjeto filtro, CursorBusca apos, int limite) {
+        List<AggregationOperation> etapas = new ArrayList<>();
+
+        // $text precisa ser a primeira etapa; os filtros e o keyset vêm depois, sobre os documentos encontrados
+        etapas.add(Aggregation.match(TextCriteria.forLanguage(IDIOMA_BUSCA).matching(termos)));
+        etapas.add(Aggregation.match(ConsultasProjeto.criterios(filtro)));
+        etapas.add(Aggregation.addFields()
+                .addFieldWithValue(CAMPO_RELEVANCIA, new Document("$meta", "textScore"))
+                .build());
+
+        // Keyset: continua estritamente depois de (relevância, _id)
+        if (apos != null) {
+            etapas.add(Aggregation.match(new Criteria().orOperator(
+                    Criteria.where(CAMPO_RELEVANCIA).lt(apos.relevancia()),
+                    Criteria.where(CAMPO_RELEVANCIA).is(apos.relevancia()).and("id").lt(apos.id()))));
+        }
+
+        etapas.add(Aggregation.sort(Sort.by(Sort.Direction.DESC, CAMPO_RELEVANCIA, "id")));
+        etapas.add(Aggregation.limit(limite));
+        etapas.add(Aggregation.project(ConsultasProjeto.CAMPOS_RESUMO).andInclude(CAMPO_RELEVANCIA));
+
+        return mongoTemplate.aggregate(Aggregation.newAggregation(etapas), Projeto.class, Projeto.class)
+                .getMappedResults();
+    }
+
+    @Override
+    public Optional<Long> buscarVersao(String id) {
+        Query query = new Query(Criteria.where("id").is(id));
+        query.fields().include("versao");
+
+        return Optional.ofNullable(mongoTemplate.findOne(query, Projeto.class)).map(Projeto::getVersao);
+    }
+
+    @Override
+    public Page<Projeto> buscarResumos(FiltroProjeto filtro, Pageable pageable) {
+        Query query = new Query(ConsultasProjeto.criterios(filtro)).with(pageable);
+        query.fields().include(ConsultasProjeto.CAMPOS_RESUMO);
+
+        List<Projeto> projetos = mongoTemplate.find(query, Projeto.class);
+
+        // O count só roda quando a página não revela o total sozinha
+        return PageableExecutionUtils.getPage(projetos, pageable,
+                () -> mongoTemplate.count(Query.of(query).limit(-1).skip(-1), Projeto.class));
+    }
+
+    @Override
+    public Page<Projeto> buscarPorFiltro(FiltroProjeto filtro, Pageable pageable) {
+        Query query = new Query(ConsultasProjeto.criterios(filtro)).with(pageable);
+
+        List<Projeto> projetos = mongoTemplate.find(query, Projeto.class);
+
+        return PageableExecutionUtils.getPage(projetos, pageable,
+                () -> mongoTemplate.count(Query.of(query).limit(-1).skip(-1), Projeto.class));
+    }
+
+    @Override
+    public List<Projeto> buscarPorIds(List<String> ids, boolean somenteResumo) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Query query = new Query(Criteria.where("id").in(ids));
+        if (somenteResumo) {
+            query.fields().include(ConsultasProjeto.CAMPOS_RESUMO);
+        }
+
+        Map<String, Projeto> encontrados = new HashMap<>();
+        mongoTemplate.find(query, Projeto.class).forEach(projeto -> encontrados.put(projeto.getId(), projeto));
+
+        return ids.stream()
+                .map(encontrados::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<FacetaTag> contarTags(FiltroProjeto filtro, int limite) {
+        Aggregation agregacao = Aggregation.newAggregation(
+                Aggregation.match(ConsultasProjeto.criterios(filtro)),
+                Aggregation.unwind("tags"),
+                Aggregation.group("tags").count().as("quantidade"),
+                Aggregation.sort(Sort.by(Sort.Direction.DESC, "quantidade").and(Sort.by("_id"))),
+                Aggregation.limit(limite),
+                Aggregation.project("quantidade").and("_id").as("tag"));
+
+        return mongoTemplate.aggregate(agregacao, Projeto.class, FacetaTag.class).getMappedResults();
+    }
+
+    @Override
+    public Stream<Projeto> streamTags(LocalDateTime atualizadoDesde) {
+        Criteria criteria = atualizadoDesde == null
+                ? new Criteria()
+                : Criteria.where("dataAtualizacao").gte(atualizadoDesde);
+
+        // Ordem de criação: as posições do índice de tags seguem a mesma ordem
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "dataCriacao", "id"))
+                .cursorBatchSize(TAMANHO_LOTE_CURSOR);
+        query.fields().include("tags");
+
+        return mongoTemplate.stream(query, Projeto.class);
+    }
+
+    @Override
+    public Stream<Projeto> streamPorFiltro(FiltroProjeto filtro) {
+        // Sem ordenação: o cursor percorre a coleção na ordem natural, em lotes de tamanho fixo
+        Query query = new Query(ConsultasProjeto.criterios(filtro)).cursorBatchSize(TAMANHO_LOTE_CURSOR);
+
+        return mongoTemplate.stream(query, Projeto.class);
+    }
+
+    @Override
+    public List<BulkWriteError> inserirLote(List<Projeto> projetos) {
+        List<BulkWriteError> erros;
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Projeto.class)
+                    .insert(projetos)
+                    .execute();
+            erros = List.of();
+        } catch (BulkOperationException e) {
+            erros = e.getErrors();
+        }
+
+        Set<Integer> falhas = erros.stream().map(BulkWriteError::getIndex).collect(Collectors.toSet());
+        List<Projeto> inseridos = IntStream.range(0, projetos.size())
+                .filter(i -> !falhas.contains(i))
+                .mapToObj(projetos::get)
+                .toList();
+        estatisticas.registrarCriados(inseridos);
+
+        return erros;
+    }
+
+    // Toda escrita avança a versão (base do ETag) junto com a data de atualização
+    private static Update novaVersao(LocalDateTime agora) {
+        return new Update()
+                .set("dataAtualizacao", agora)
+                .inc("versao", 1);
+    }
+
+    // Mesmo efeito de novaVersao sobre um documento anterior devolvido pelo findAndModify
+    private static Projeto comNovaVersao(Projeto projeto, LocalDateTime agora) {
+        projeto.setDataAtualizacao(agora);
+        projeto.setVersao(projeto.getVersao() + 1);
+        return projeto;
+    }
+
+    // Precisão do MongoDB, para que a resposta montada em memória seja igual a uma releitura
+    private static LocalDateTime agora() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    // Servido pelo índice (status, data_limite)
+    private static Criteria criteriosExpirados(LocalDate hoje) {
+        return Criteria.where("status").in(Projeto.StatusProjeto.ABERTOS_PARA_DOACAO)
+                .and("dataLimite").lt(hoje);
+    }
+}
@@ -0,0 +1,42 @@
+package com.catarse.backend.repository;
+
+import com.catarse.backend.model.Trava;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Repository
+@RequiredArgsConstructor
+public class TravaRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    // Adquire ou renova: casa se a trava expirou ou já é nossa. Se outra instância a detém, o upsert
+    // tenta inserir o mesmo _id e falha com chave duplicada.
+    public boolean adquirir(String nome, String dono, Duration duracao) {
+        Instant agora = Instant.now();
+        Query query = new Query(Criteria.where("nome").is(nome)
+                .orOperator(Criteria.where("expiraEm").lt(agora), Criteria.where("dono").is(dono)));
+        Update update = new Update()
+                .set("dono", dono)
+                .set("expiraEm", agora.plus(duracao));
+
+        try {
+            mongoTemplate.upsert(query, update, Trava.class);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public void liberar(String nome, String dono) {
+        mongoTemplate.remove(new Query(Criteria.where("nome").is(nome).and("dono").is(dono)), Trava.class);
+    }
+}
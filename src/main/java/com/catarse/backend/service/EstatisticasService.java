@@ -0,0 +1,40 @@
+package com.catarse.backend.service;
+
+import com.catarse.backend.dto.EstatisticasResponse;
+import com.catarse.backend.repository.EstatisticasProjetoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EstatisticasService {
+
+    private final EstatisticasProjetoRepository estatisticasRepository;
+
+    // Um documento por categoria: o custo não depende da quantidade de projetos
+    public EstatisticasResponse consultar() {
+        return EstatisticasResponse.de(estatisticasRepository.listar().stream()
+                .sorted(Comparator.comparing(e -> e.getCategoria() == null ? "" : e.getCategoria()))
+                .toList());
+    }
+
+    public EstatisticasResponse reconstruir() {
+        log.info("Reconstruindo estatísticas de projetos");
+        estatisticasRepository.reconstruir();
+        return consultar();
+    }
+
+    // Primeira subida com a coleção de estatísticas: calcula a partir dos projetos existentes
+    @EventListener(ApplicationReadyEvent.class)
+    public void inicializar() {
+        if (estatisticasRepository.vazio()) {
+            reconstruir();
+        }
+    }
+}
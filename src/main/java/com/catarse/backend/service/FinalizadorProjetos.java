@@ -0,0 +1,124 @@
+package com.catarse.backend.service;
+
+import com.catarse.backend.config.FinalizacaoProperties;
+import com.catarse.backend.model.Projeto;
+import com.catarse.backend.repository.ProjetoRepository;
+import com.catarse.backend.repository.TravaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Move projetos abertos com prazo vencido para FINALIZADO_COM_SUCESSO ou FINALIZADO_SEM_SUCESSO.
+// Cada lote é gravado por completo antes do próximo, então uma execução interrompida é retomada pela
+// seguinte; a trava no MongoDB garante uma única instância finalizando por vez.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "catarse.finalizacao.enabled", havingValue = "true", matchIfMissing = true)
+public class FinalizadorProjetos {
+
+    private static final String TRAVA = "finalizador-projetos";
+
+    private final ProjetoRepository projetoRepository;
+    private final TravaRepository travaRepository;
+    private final ProjetoCache projetoCache;
+    private final FinalizacaoProperties properties;
+    private final String dono;
+
+    private final AtomicLong pendentes = new AtomicLong();
+    private final Timer duracaoLote;
+    private final Counter comSucesso;
+    private final Counter semSucesso;
+
+    public FinalizadorProjetos(ProjetoRepository projetoRepository, TravaRepository travaRepository,
+                               ProjetoCache projetoCache, FinalizacaoProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.projetoRepository = projetoRepository;
+        this.travaRepository = travaRepository;
+        this.projetoCache = projetoCache;
+        this.properties = properties;
+        // Sufixo aleatório: duas instâncias com o mesmo hostname não compartilham a trava
+        this.dono = properties.getInstancia() + ":" + UUID.randomUUID();
+
+        this.duracaoLote = Timer.builder("catarse.finalizacao.lote.duracao")
+                .description("Tempo para finalizar um lote de projetos vencidos")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.comSucesso = Counter.builder("catarse.finalizacao.projetos")
+                .description("Projetos finalizados por prazo vencido")
+                .tag("resultado", "sucesso")
+                .register(meterRegistry);
+        this.semSucesso = Counter.builder("catarse.finalizacao.projetos")
+                .description("Projetos finalizados por prazo vencido")
+                .tag("resultado", "sem_sucesso")
+                .register(meterRegistry);
+        Gauge.builder("catarse.finalizacao.pendentes", pendentes, AtomicLong::get)
+                .description("Projetos vencidos aguardando finalização, medido no início de cada execução")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${catarse.finalizacao.intervalo-ms:60000}")
+    public void finalizar() {
+        if (!travaRepository.adquirir(TRAVA, dono, properties.getDuracaoTrava())) {
+            log.debug("Finalização em andamento em outra instância");
+            return;
+        }
+
+        try {
+            LocalDate hoje = LocalDate.now();
+            pendentes.set(projetoRepository.contarExpirados(hoje));
+
+            while (pendentes.get() > 0) {
+                List<Projeto> expirados = projetoRepository.buscarExpirados(hoje, properties.getTamanhoLote());
+                if (expirados.isEmpty() || finalizarLote(expirados, hoje) == 0) {
+                    break;
+                }
+
+                // Renova a trava a cada lote; se outra instância assumiu, ela continua de onde paramos
+                if (!travaRepository.adquirir(TRAVA, dono, properties.getDuracaoTrava())) {
+                    log.warn("Trava de finalização perdida; interrompendo");
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Falha ao finalizar projetos vencidos; a próxima execução retoma", e);
+        }
+
+        travaRepository.liberar(TRAVA, dono);
+    }
+
+    private int finalizarLote(List<Projeto> expirados, LocalDate hoje) {
+        Map<Projeto.StatusProjeto, List<Projeto>> porStatus = new EnumMap<>(Projeto.StatusProjeto.class);
+        for (Projeto projeto : expirados) {
+            porStatus.computeIfAbsent(statusFinal(projeto), s -> new ArrayList<>()).add(projeto);
+        }
+
+        int finalizados = duracaoLote.record(() -> projetoRepository.finalizar(porStatus, hoje));
+
+        projetoCache.invalidar(expirados.stream().map(Projeto::getId).toList());
+        comSucesso.increment(porStatus.getOrDefault(Projeto.StatusProjeto.FINALIZADO_COM_SUCESSO, List.of()).size());
+        semSucesso.increment(porStatus.getOrDefault(Projeto.StatusProjeto.FINALIZADO_SEM_SUCESSO, List.of()).size());
+        pendentes.updateAndGet(atual -> Math.max(0, atual - finalizados));
+
+        log.info("Finalizados {} projetos vencidos", finalizados);
+        return finalizados;
+    }
+
+    private static Projeto.StatusProjeto statusFinal(Projeto projeto) {
+        return projeto.getMetaFinanceira() > 0 && projeto.getValorArrecadado() >= projeto.getMetaFinanceira()
+                ? Projeto.StatusProjeto.FINALIZADO_COM_SUCESSO
+                : Projeto.StatusProjeto.FINALIZADO_SEM_SUCESSO;
+    }
+}
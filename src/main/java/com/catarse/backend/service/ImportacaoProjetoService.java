@@ -0,0 +1,170 @@
+package com.catarse.backend.service;
+
+import com.catarse.backend.config.ImportacaoProperties;
+import com.catarse.backend.dto.ProjetoRequest;
+import com.catarse.backend.dto.ResultadoImportacao;
+import com.catarse.backend.dto.ResultadoImportacao.ItemImportacao;
+import com.catarse.backend.dto.ResultadoImportacao.StatusItem;
+import com.catarse.backend.model.Projeto;
+import com.catarse.backend.repository.ProjetoRepository;
+import com.catarse.backend.service.tags.IndiceTags;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportacaoProjetoService {
+
+    private static final int CODIGO_CHAVE_DUPLICADA = 11000;
+
+    // Item lido do corpo: o request convertido ou o motivo pelo qual a conversão falhou
+    private record Entrada(ProjetoRequest request, String erro) {
+    }
+
+    private final ProjetoRepository projetoRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ImportacaoProperties properties;
+    private final IndiceTags indiceTags;
+
+    // Aceita um array JSON ou NDJSON; o corpo é lido em streaming e gravado em lotes
+    public ResultadoImportacao importar(InputStream entrada) throws IOException {
+        log.info("Iniciando importação de projetos em lote");
+
+        int tamanhoLote = Math.max(properties.getTamanhoLote(), 1);
+        List<ItemImportacao> itens = new ArrayList<>();
+        List<Entrada> lote = new ArrayList<>(tamanhoLote);
+        Set<String> titulosVistos = new HashSet<>();
+        String erroLeitura = null;
+
+        // Cada item é lido como árvore e convertido à parte: um campo com tipo errado invalida só aquele
+        // item; apenas JSON malformado interrompe a leitura
+        try (MappingIterator<JsonNode> leitura = objectMapper.readerFor(JsonNode.class).readValues(entrada)) {
+            while (leitura.hasNextValue()) {
+                lote.add(converter(leitura.nextValue()));
+                if (lote.size() == tamanhoLote) {
+                    processarLote(lote, itens.size(), titulosVistos, itens);
+                    lote.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // Lotes anteriores já foram gravados: a importação para aqui e devolve o resultado parcial
+            erroLeitura = e.getOriginalMessage();
+        }
+
+        if (!lote.isEmpty()) {
+            processarLote(lote, itens.size(), titulosVistos, itens);
+        }
+
+        if (erroLeitura != null) {
+            log.warn("Importação interrompida no item {}: JSON inválido", itens.size());
+            itens.add(new ItemImportacao(itens.size(), StatusItem.INVALIDO, null,
+                    "JSON inválido, importação interrompida neste item: " + erroLeitura));
+        }
+
+        ResultadoImportacao resultado = ResultadoImportacao.de(itens);
+        log.info("Importação concluída: {} criados, {} duplicados, {} inválidos, {} falhas",
+                resultado.getCriados(), resultado.getDuplicados(), resultado.getInvalidos(), resultado.getFalhas());
+        return resultado;
+    }
+
+    private Entrada converter(JsonNode item) {
+        if (item == null || item.isNull()) {
+            return new Entrada(null, "Item nulo");
+        }
+        try {
+            return new Entrada(objectMapper.treeToValue(item, ProjetoRequest.class), null);
+        } catch (JsonProcessingException e) {
+            String campo = e instanceof JsonMappingException mapeamento
+                    ? mapeamento.getPath().stream()
+                    .map(ref -> ref.getFieldName() != null ? ref.getFieldName() : "[" + ref.getIndex() + "]")
+                    .collect(Collectors.joining("."))
+                    : "";
+            return new Entrada(null, (campo.isEmpty() ? "" : campo + ": ") + "tipo inválido (" + e.getOriginalMessage() + ")");
+        }
+    }
+
+    private void processarLote(List<Entrada> lote, int indiceInicial, Set<String> titulosVistos,
+                               List<ItemImportacao> itens) {
+        List<String> erros = lote.parallelStream()
+                .map(item -> item.erro() != null ? item.erro() : validar(item.request()))
+                .toList();
+
+        ItemImportacao[] resultados = new ItemImportacao[lote.size()];
+        List<Projeto> projetos = new ArrayList<>(lote.size());
+        List<Integer> posicoes = new ArrayList<>(lote.size());
+        LocalDateTime agora = LocalDateTime.now();
+
+        for (int i = 0; i < lote.size(); i++) {
+            int indice = indiceInicial + i;
+            ProjetoRequest request = lote.get(i).request();
+
+            if (erros.get(i) != null) {
+                resultados[i] = new ItemImportacao(indice, StatusItem.INVALIDO, null, erros.get(i));
+            } else if (!titulosVistos.add(request.getTitulo())) {
+                resultados[i] = new ItemImportacao(indice, StatusItem.DUPLICADO, null,
+                        "Título repetido na própria importação");
+            } else {
+                // Id e datas definidos aqui: o id volta na resposta e o projeto não é tratado como existente
+                Projeto projeto = request.toEntity();
+                projeto.setId(new ObjectId().toHexString());
+                projeto.setDataCriacao(agora);
+                projeto.setDataAtualizacao(agora);
+                projetos.add(projeto);
+                posicoes.add(i);
+            }
+        }
+
+        // Duplicatas contra o que já existe no banco são detectadas pelo índice único de título
+        List<BulkWriteError> falhas = projetos.isEmpty() ? List.of() : projetoRepository.inserirLote(projetos);
+        for (BulkWriteError falha : falhas) {
+            int i = posicoes.get(falha.getIndex());
+            resultados[i] = falha.getCode() == CODIGO_CHAVE_DUPLICADA
+                    ? new ItemImportacao(indiceInicial + i, StatusItem.DUPLICADO, null, "Já existe um projeto com este título")
+                    : new ItemImportacao(indiceInicial + i, StatusItem.FALHA, null, falha.getMessage());
+        }
+
+        for (int p = 0; p < projetos.size(); p++) {
+            int i = posicoes.get(p);
+            if (resultados[i] == null) {
+                Projeto projeto = projetos.get(p);
+                resultados[i] = new ItemImportacao(indiceInicial + i, StatusItem.CRIADO, projeto.getId(), null);
+                indiceTags.atualizar(projeto.getId(), projeto.getTags());
+            }
+        }
+
+        itens.addAll(List.of(resultados));
+    }
+
+    private String validar(ProjetoRequest request) {
+        Set<ConstraintViolation<ProjetoRequest>> violacoes = validator.validate(request);
+        if (violacoes.isEmpty()) {
+            return null;
+        }
+
+        return violacoes.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+}
@@ -0,0 +1,92 @@
+package com.catarse.backend.service;
+
+import com.catarse.backend.config.ProjetoCacheProperties;
+import com.catarse.backend.dto.ProjetoResponse;
+import com.catarse.backend.service.mudancas.MudancasPerdidasEvent;
+import com.catarse.backend.service.mudancas.ProjetoMudancaEvent;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+// Cache de respostas prontas para serializar. Leituras concorrentes de uma chave fria compartilham
+// o mesmo futuro: uma única consulta ao MongoDB, feita pela thread que criou a entrada e fora de
+// qualquer lock, para não prender a thread portadora quando rodando em threads virtuais.
+@Component
+public class ProjetoCache {
+
+    private final AsyncCache<String, ProjetoResponse> cache;
+
+    public ProjetoCache(ProjetoCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getTamanhoMaximo())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "projetos");
+    }
+
+    public ProjetoResponse buscar(String id, Function<String, ProjetoResponse> carregador) {
+        AtomicReference<CompletableFuture<ProjetoResponse>> criado = new AtomicReference<>();
+        CompletableFuture<ProjetoResponse> futuro = cache.get(id, (chave, executor) -> {
+            CompletableFuture<ProjetoResponse> novo = new CompletableFuture<>();
+            criado.set(novo);
+            return novo;
+        });
+
+        if (futuro == criado.get()) {
+            try {
+                futuro.complete(carregador.apply(id));
+            } catch (RuntimeException e) {
+                // Futuros com erro são descartados pelo cache
+                futuro.completeExceptionally(e);
+            }
+        }
+
+        try {
+            return futuro.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    // Resposta já carregada, sem disparar consulta; null se ausente ou ainda em carregamento
+    public ProjetoResponse presente(String id) {
+        CompletableFuture<ProjetoResponse> futuro = cache.getIfPresent(id);
+        if (futuro == null || !futuro.isDone() || futuro.isCompletedExceptionally()) {
+            return null;
+        }
+        return futuro.join();
+    }
+
+    public void invalidar(String id) {
+        cache.synchronous().invalidate(id);
+    }
+
+    public void invalidar(Collection<String> ids) {
+        cache.synchronous().invalidateAll(ids);
+    }
+
+    // Alterações vindas do change stream, inclusive de outras instâncias; sem ele, só o TTL as reflete
+    @EventListener
+    public void aoMudar(ProjetoMudancaEvent mudanca) {
+        invalidar(mudanca.projetoId());
+    }
+
+    @EventListener(MudancasPerdidasEvent.class)
+    public void aoPerderMudancas() {
+        cache.synchronous().invalidateAll();
+    }
+}
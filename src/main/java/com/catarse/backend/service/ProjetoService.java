@@ -1,40 +1,83 @@
 package com.catarse.backend.service;
 
+import com.catarse.backend.dto.CursorBusca;
+import com.catarse.backend.dto.CursorPage;
+import com.catarse.backend.dto.CursorProjeto;
+import com.catarse.backend.dto.FacetaTag;
+import com.catarse.backend.dto.FiltroProjeto;
 import com.catarse.backend.dto.ProjetoRequest;
 import com.catarse.backend.dto.ProjetoResponse;
+import com.catarse.backend.dto.ProjetoSummary;
+import com.catarse.backend.dto.ProjetosPorIds;
+import com.catarse.backend.dto.ResultadoAlteracaoStatus;
+import com.catarse.backend.dto.TendenciaProjeto;
+import com.catarse.backend.dto.Versionado;
+import com.catarse.backend.dto.VisaoProjeto;
+import com.catarse.backend.exception.DoacaoRecusadaException;
 import com.catarse.backend.exception.ResourceNotFoundException;
+import com.catarse.backend.metrics.MetricasDoacao;
+import com.catarse.backend.model.Centavos;
 import com.catarse.backend.model.Projeto;
 import com.catarse.backend.repository.ProjetoRepository;
+import com.catarse.backend.service.doacao.ProcessadorDoacao;
+import com.catarse.backend.service.tags.IndiceTags;
+import com.catarse.backend.service.tendencias.JanelaTendencia;
+import com.catarse.backend.service.tendencias.RankingTendencias;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = "catarse.projeto.servico", description = "Tempo dos métodos de ProjetoService", histogram = true)
 public class ProjetoService {
 
+    private static final int TAMANHO_MAXIMO_CURSOR = 100;
+    private static final int LIMITE_MAXIMO_FACETAS = 100;
+    private static final int LIMITE_MAXIMO_TENDENCIAS = 100;
+    private static final int LIMITE_MAXIMO_IDS = 500;
+
     private final ProjetoRepository projetoRepository;
+    private final ProcessadorDoacao processadorDoacao;
+    private final ProjetoCache projetoCache;
+    private final ObjectMapper objectMapper;
+    private final MetricasDoacao metricasDoacao;
+    private final IndiceTags indiceTags;
+    private final RankingTendencias rankingTendencias;
 
     @Transactional
     public ProjetoResponse criarProjeto(ProjetoRequest request) {
         log.info("Criando novo projeto: {}", request.getTitulo());
 
-        if (projetoRepository.findByTitulo(request.getTitulo()).isPresent()) {
-            throw new IllegalArgumentException("Já existe um projeto com este título");
-        }
-
         Projeto projeto = request.toEntity();
-        projeto = projetoRepository.save(projeto);
+        projeto = projetoRepository.criar(projeto);
+        indiceTags.atualizar(projeto.getId(), projeto.getTags());
 
         log.info("Projeto criado com sucesso: {}", projeto.getId());
         return ProjetoResponse.fromEntity(projeto);
@@ -43,10 +86,53 @@ public class ProjetoService {
     public ProjetoResponse buscarPorId(String id) {
         log.debug("Buscando projeto por ID: {}", id);
 
-        Projeto projeto = projetoRepository.findById(id)
+        return projetoCache.buscar(id, chave -> projetoRepository.findById(chave)
+                .map(ProjetoResponse::fromEntity)
+                .orElseThrow(() -> new ResourceNotFoundException("Projeto não encontrado com ID: " + chave)));
+    }
+
+    // Versão atual sem montar a resposta: do cache quando presente, senão lendo apenas o campo versao
+    public long buscarVersao(String id) {
+        ProjetoResponse emCache = projetoCache.presente(id);
+        if (emCache != null) {
+            return emCache.getVersao();
+        }
+
+        return projetoRepository.buscarVersao(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Projeto não encontrado com ID: " + id));
+    }
 
-        return ProjetoResponse.fromEntity(projeto);
+    // Respostas já em cache primeiro; as que faltam vêm de uma única consulta $in
+    public ProjetosPorIds buscarPorIds(List<String> ids, VisaoProjeto visao) {
+        List<String> distintos = idsDistintos(ids);
+        log.debug("Buscando {} projetos por id", distintos.size());
+
+        boolean resumo = visao == VisaoProjeto.RESUMO;
+        Map<String, Versionado> encontrados = new HashMap<>();
+        List<String> ausentes = new ArrayList<>();
+        for (String id : distintos) {
+            ProjetoResponse emCache = projetoCache.presente(id);
+            if (emCache == null) {
+                ausentes.add(id);
+            } else {
+                encontrados.put(id, resumo ? ProjetoSummary.fromResponse(emCache) : emCache);
+            }
+        }
+        for (Projeto projeto : projetoRepository.buscarPorIds(ausentes, resumo)) {
+            encontrados.put(projeto.getId(), resumo ? ProjetoSummary.fromEntity(projeto) : ProjetoResponse.fromEntity(projeto));
+        }
+
+        List<Versionado> projetos = new ArrayList<>(encontrados.size());
+        List<String> naoEncontrados = new ArrayList<>();
+        for (String id : distintos) {
+            Versionado projeto = encontrados.get(id);
+            if (projeto == null) {
+                naoEncontrados.add(id);
+            } else {
+                projetos.add(projeto);
+            }
+        }
+        return new ProjetosPorIds(projetos, naoEncontrados);
     }
 
     public Page<ProjetoResponse> listarTodos(Pageable pageable) {
@@ -56,29 +142,92 @@ public class ProjetoService {
                 .map(ProjetoResponse::fromEntity);
     }
 
+    public Page<ProjetoSummary> listarResumos(FiltroProjeto filtro, Pageable pageable) {
+        log.debug("Listando resumos de projetos: {}", filtro);
+
+        return projetoRepository.buscarResumos(filtro, pageable)
+                .map(ProjetoSummary::fromEntity);
+    }
+
+    public CursorPage<ProjetoResponse> listarPorCursor(FiltroProjeto filtro, String cursor, int tamanho) {
+        log.debug("Listando projetos por cursor: {}", filtro);
+
+        int limite = Math.min(Math.max(tamanho, 1), TAMANHO_MAXIMO_CURSOR);
+        CursorProjeto apos = cursor == null || cursor.isBlank() ? null : CursorProjeto.decodificar(cursor);
+
+        // Um item a mais indica se existe próxima página, sem precisar de count
+        List<Projeto> projetos = projetoRepository.buscarPorCursor(filtro, apos, limite + 1);
+        boolean temProxima = projetos.size() > limite;
+        if (temProxima) {
+            projetos = projetos.subList(0, limite);
+        }
+
+        List<ProjetoResponse> conteudo = projetos.stream()
+                .map(ProjetoResponse::fromEntity)
+                .toList();
+        String proximoCursor = temProxima ? CursorProjeto.apos(projetos.get(limite - 1)).codificar() : null;
+
+        return new CursorPage<>(conteudo, proximoCursor);
+    }
+
+    public CursorPage<ProjetoSummary> buscarTexto(String termos, FiltroProjeto filtro, String cursor, int tamanho) {
+        log.debug("Busca textual: '{}' {}", termos, filtro);
+
+        if (termos == null || termos.isBlank()) {
+            throw new IllegalArgumentException("Informe os termos da busca");
+        }
+
+        int limite = Math.min(Math.max(tamanho, 1), TAMANHO_MAXIMO_CURSOR);
+        CursorBusca apos = cursor == null || cursor.isBlank() ? null : CursorBusca.decodificar(cursor);
+
+        List<Projeto> projetos = projetoRepository.buscarTexto(termos.strip(), filtro, apos, limite + 1);
+        boolean temProxima = projetos.size() > limite;
+        if (temProxima) {
+            projetos = projetos.subList(0, limite);
+        }
+
+        List<ProjetoSummary> conteudo = projetos.stream()
+                .map(ProjetoSummary::fromEntity)
+                .toList();
+        String proximoCursor = temProxima ? CursorBusca.apos(projetos.get(limite - 1)).codificar() : null;
+
+        return new CursorPage<>(conteudo, proximoCursor);
+    }
+
+    public void exportar(FiltroProjeto filtro, OutputStream saida) throws IOException {
+        log.info("Exportando projetos: {}", filtro);
+
+        // Um documento por linha, direto do cursor: memória constante e escrita bloqueante como contrapressão
+        ObjectWriter writer = objectMapper.writerFor(ProjetoResponse.class)
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        long exportados = 0;
+        try (Stream<Projeto> projetos = projetoRepository.streamPorFiltro(filtro);
+             SequenceWriter linhas = writer.writeValues(saida)) {
+            Iterator<Projeto> iterator = projetos.iterator();
+            while (iterator.hasNext()) {
+                linhas.write(ProjetoResponse.fromEntity(iterator.next()));
+                exportados++;
+            }
+        }
+
+        if (exportados > 0) {
+            saida.write('\n');
+        }
+        log.info("Exportação concluída: {} projetos", exportados);
+    }
+
     @Transactional
     public ProjetoResponse atualizarProjeto(String id, ProjetoRequest request) {
         log.info("Atualizando projeto: {}", id);
 
-        Projeto projeto = projetoRepository.findById(id)
+        Projeto projeto = projetoRepository.atualizarDados(id, request.toEntity())
                 .orElseThrow(() -> new ResourceNotFoundException("Projeto não encontrado com ID: " + id));
 
-        // Verifica se outro projeto já usa este título
-        projetoRepository.findByTitulo(request.getTitulo())
-                .filter(p -> !p.getId().equals(id))
-                .ifPresent(p -> {
-                    throw new IllegalArgumentException("Já existe outro projeto com este título");
-                });
-
-        projeto.setTitulo(request.getTitulo());
-        projeto.setDescricao(request.getDescricao());
-        projeto.setCategoria(request.getCategoria());
-        projeto.setMetaFinanceira(request.getMetaFinanceira());
-        projeto.setDataLimite(request.getDataLimite());
-        projeto.setTags(request.getTags());
-        projeto.setImagemUrl(request.getImagemUrl());
-
-        projeto = projetoRepository.save(projeto);
+        projetoCache.invalidar(id);
+        indiceTags.atualizar(id, projeto.getTags());
         log.info("Projeto atualizado com sucesso: {}", id);
 
         return ProjetoResponse.fromEntity(projeto);
@@ -88,11 +237,11 @@ public class ProjetoService {
     public void deletarProjeto(String id) {
         log.info("Deletando projeto: {}", id);
 
-        if (!projetoRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Projeto não encontrado com ID: " + id);
-        }
-
-        projetoRepository.deleteById(id);
+        projetoRepository.remover(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Projeto não encontrado com ID: " + id));
+        projetoCache.invalidar(id);
+        indiceTags.remover(id);
+        rankingTendencias.remover(id);
         log.info("Projeto deletado com sucesso: {}", id);
     }
 
@@ -100,106 +249,227 @@ public class ProjetoService {
     public ProjetoResponse publicarProjeto(String id) {
         log.info("Publicando projeto: {}", id);
 
-        Projeto projeto = projetoRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Projeto não encontrado com ID: " + id));
-
-        if (projeto.getStatus() != Projeto.StatusProjeto.RASCUNHO) {
-            throw new IllegalStateException("Apenas projetos em rascunho podem ser publicados");
-        }
-
-        projeto.setStatus(Projeto.StatusProjeto.PUBLICADO);
-        projeto = projetoRepository.save(projeto);
+        Projeto projeto = projetoRepository.alterarStatus(id,
+                        EnumSet.of(Projeto.StatusProjeto.RASCUNHO), Projeto.StatusProjeto.PUBLICADO)
+                .orElseThrow(() -> {
+                    if (!projetoRepository.existsById(id)) {
+                        return new ResourceNotFoundException("Projeto não encontrado com ID: " + id);
+                    }
+                    return new IllegalStateException("Apenas projetos em rascunho podem ser publicados");
+                });
 
+        projetoCache.invalidar(id);
         log.info("Projeto publicado com sucesso: {}", id);
         return ProjetoResponse.fromEntity(projeto);
     }
 
     @Transactional
-    public ProjetoResponse adicionarDoacao(String id, BigDecimal valor) {
+    public ResultadoAlteracaoStatus publicarProjetos(List<String> ids) {
+        return alterarStatusEmLote(ids, EnumSet.of(Projeto.StatusProjeto.RASCUNHO), Projeto.StatusProjeto.PUBLICADO);
+    }
+
+    @Transactional
+    public ResultadoAlteracaoStatus cancelarProjetos(List<String> ids) {
+        return alterarStatusEmLote(ids, Projeto.StatusProjeto.CANCELAVEIS, Projeto.StatusProjeto.CANCELADO);
+    }
+
+    @Transactional
+    public ProjetoResponse adicionarDoacao(String id, BigDecimal valor, String chaveIdempotencia) {
         log.info("Adicionando doação ao projeto: {}", id);
 
         if (valor.compareTo(BigDecimal.ZERO) <= 0) {
+            metricasDoacao.recusada(DoacaoRecusadaException.Motivo.VALOR_INVALIDO);
             throw new IllegalArgumentException("Valor da doação deve ser positivo");
         }
 
-        Projeto projeto = projetoRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Projeto não encontrado com ID: " + id));
-
-        if (projeto.getStatus() != Projeto.StatusProjeto.PUBLICADO &&
-                projeto.getStatus() != Projeto.StatusProjeto.EM_ANDAMENTO) {
-            throw new IllegalStateException("Projeto não está aberto para doações");
+        // Sem deduplicação a chave seria ignorada em silêncio e uma repetição somaria de novo
+        if (chaveIdempotencia != null && !processadorDoacao.aceitaIdempotencia()) {
+            throw new IllegalArgumentException("Idempotency-Key só é aceita com catarse.doacao.modo=ledger");
         }
 
-        if (LocalDate.now().isAfter(projeto.getDataLimite())) {
-            throw new IllegalStateException("Prazo para doações já expirou");
+        long centavos;
+        ProcessadorDoacao.Registro registro;
+        try {
+            centavos = Centavos.de(valor);
+            registro = processadorDoacao.registrar(id, centavos, chaveIdempotencia);
+        } catch (DoacaoRecusadaException e) {
+            metricasDoacao.recusada(e.getMotivo());
+            throw e;
+        } catch (ResourceNotFoundException e) {
+            metricasDoacao.recusada(DoacaoRecusadaException.Motivo.NAO_ENCONTRADO);
+            throw e;
+        } catch (IllegalArgumentException e) {
+            metricasDoacao.recusada(DoacaoRecusadaException.Motivo.VALOR_INVALIDO);
+            throw e;
         }
 
-        BigDecimal novoValor = projeto.getValorArrecadado().add(valor);
-        projeto.setValorArrecadado(novoValor);
-
-        // Atualiza status se necessário
-        if (novoValor.compareTo(projeto.getMetaFinanceira()) >= 0) {
-            projeto.setStatus(Projeto.StatusProjeto.CONCLUIDO);
-        } else if (projeto.getStatus() == Projeto.StatusProjeto.PUBLICADO) {
-            projeto.setStatus(Projeto.StatusProjeto.EM_ANDAMENTO);
+        if (!registro.nova()) {
+            // Repetição com a mesma Idempotency-Key: nada mudou e a doação já foi contada na primeira requisição
+            log.info("Doação repetida no projeto {}, respondendo com o registro existente", id);
+            return ProjetoResponse.fromEntity(registro.projeto());
         }
 
-        projeto = projetoRepository.save(projeto);
+        metricasDoacao.aceita();
+        projetoCache.invalidar(id);
+        rankingTendencias.registrar(id, centavos);
         log.info("Doação adicionada ao projeto: {}", id);
 
-        return ProjetoResponse.fromEntity(projeto);
+        return ProjetoResponse.fromEntity(registro.projeto());
     }
 
     public Page<ProjetoResponse> buscarPorCategoria(String categoria, Pageable pageable) {
         log.debug("Buscando projetos por categoria: {}", categoria);
 
-        // Implementação temporária - filtra manualmente
-        Page<Projeto> todos = projetoRepository.findAll(pageable);
-        List<ProjetoResponse> filtrados = todos.getContent().stream()
-                .filter(p -> p.getCategoria() != null && p.getCategoria().equalsIgnoreCase(categoria))
-                .map(ProjetoResponse::fromEntity)
-                .collect(Collectors.toList());
-
-        return new PageImpl<>(filtrados, pageable, todos.getTotalElements());
+        return projetoRepository.findByCategoria(categoria, pageable)
+                .map(ProjetoResponse::fromEntity);
     }
 
     public Page<ProjetoResponse> buscarPorCriador(String criadorId, Pageable pageable) {
         log.debug("Buscando projetos por criador: {}", criadorId);
 
-        // Implementação temporária - filtra manualmente
-        Page<Projeto> todos = projetoRepository.findAll(pageable);
-        List<ProjetoResponse> filtrados = todos.getContent().stream()
-                .filter(p -> p.getCriadorId() != null && p.getCriadorId().equals(criadorId))
-                .map(ProjetoResponse::fromEntity)
-                .collect(Collectors.toList());
-
-        return new PageImpl<>(filtrados, pageable, todos.getTotalElements());
+        return projetoRepository.findByCriadorId(criadorId, pageable)
+                .map(ProjetoResponse::fromEntity);
     }
 
     public Page<ProjetoResponse> buscarAtivos(Pageable pageable) {
         log.debug("Buscando projetos ativos");
 
-        // Implementação temporária - filtra manualmente
-        Page<Projeto> todos = projetoRepository.findAll(pageable);
-        List<ProjetoResponse> filtrados = todos.getContent().stream()
-                .filter(p -> p.getStatus() == Projeto.StatusProjeto.PUBLICADO)
-                .map(ProjetoResponse::fromEntity)
-                .collect(Collectors.toList());
+        return projetoRepository.findByStatus(Projeto.StatusProjeto.PUBLICADO, pageable)
+                .map(ProjetoResponse::fromEntity);
+    }
 
-        return new PageImpl<>(filtrados, pageable, todos.getTotalElements());
+    public Page<ProjetoResponse> buscarPorTags(FiltroProjeto filtro, Pageable pageable) {
+        log.debug("Buscando projetos por tags: {}", filtro);
+
+        validarFiltroTags(filtro);
+        return paginaPorIndiceTags(filtro, pageable, false)
+                .orElseGet(() -> projetoRepository.buscarPorFiltro(filtro, pageable))
+                .map(ProjetoResponse::fromEntity);
     }
 
-    public Page<ProjetoResponse> buscarPorTags(List<String> tags, Pageable pageable) {
-        log.debug("Buscando projetos por tags: {}", tags);
+    public Page<ProjetoSummary> buscarResumosPorTags(FiltroProjeto filtro, Pageable pageable) {
+        log.debug("Buscando resumos de projetos por tags: {}", filtro);
 
-        // Implementação temporária - filtra manualmente
-        Page<Projeto> todos = projetoRepository.findAll(pageable);
-        List<ProjetoResponse> filtrados = todos.getContent().stream()
-                .filter(p -> p.getTags() != null &&
-                        p.getTags().stream().anyMatch(tag -> tags.contains(tag)))
-                .map(ProjetoResponse::fromEntity)
-                .collect(Collectors.toList());
+        validarFiltroTags(filtro);
+        return paginaPorIndiceTags(filtro, pageable, true)
+                .orElseGet(() -> projetoRepository.buscarResumos(filtro, pageable))
+                .map(ProjetoSummary::fromEntity);
+    }
+
+    public List<FacetaTag> facetasTags(FiltroProjeto filtro, int limite) {
+        log.debug("Calculando facetas de tags: {}", filtro);
 
-        return new PageImpl<>(filtrados, pageable, todos.getTotalElements());
+        int limiteValido = Math.min(Math.max(limite, 1), LIMITE_MAXIMO_FACETAS);
+        return indiceTags.facetas(filtro, limiteValido)
+                .orElseGet(() -> projetoRepository.contarTags(filtro, limiteValido));
+    }
+
+    // Ranking em memória; os projetos vêm de buscarPorIds (cache de respostas e um único $in para o resto)
+    public List<TendenciaProjeto> tendencias(String janela, int limite) {
+        int limiteValido = Math.min(Math.max(limite, 1), LIMITE_MAXIMO_TENDENCIAS);
+        List<RankingTendencias.Posicao> posicoes = rankingTendencias.listar(JanelaTendencia.de(janela), limiteValido);
+        if (posicoes.isEmpty()) {
+            return List.of();
+        }
+
+        ProjetosPorIds projetos = buscarPorIds(
+                posicoes.stream().map(RankingTendencias.Posicao::projetoId).toList(), VisaoProjeto.RESUMO);
+        // Removidos por outra instância sem change stream: saem do ranking daqui
+        projetos.getNaoEncontrados().forEach(rankingTendencias::remover);
+
+        Map<String, ProjetoSummary> resumos = new HashMap<>();
+        for (Versionado projeto : projetos.getProjetos()) {
+            resumos.put(projeto.getId(), (ProjetoSummary) projeto);
+        }
+
+        List<TendenciaProjeto> tendencias = new ArrayList<>(posicoes.size());
+        for (RankingTendencias.Posicao posicao : posicoes) {
+            ProjetoSummary resumo = resumos.get(posicao.projetoId());
+            if (resumo != null) {
+                tendencias.add(TendenciaProjeto.builder()
+                        .projeto(resumo)
+                        .valorJanela(posicao.centavos())
+                        .doacoesJanela(posicao.doacoes())
+                        .build());
+            }
+        }
+        return tendencias;
+    }
+
+    // Mesmas regras da alteração individual, com uma leitura e um updateMany para o lote inteiro
+    private ResultadoAlteracaoStatus alterarStatusEmLote(List<String> ids, Set<Projeto.StatusProjeto> statusAtuais,
+                                                         Projeto.StatusProjeto novoStatus) {
+        List<String> distintos = idsDistintos(ids);
+        log.info("Alterando {} projetos para {}", distintos.size(), novoStatus);
+
+        Map<String, Projeto> existentes = new HashMap<>();
+        projetoRepository.buscarStatus(distintos).forEach(projeto -> existentes.put(projeto.getId(), projeto));
+        List<Projeto> candidatos = existentes.values().stream()
+                .filter(projeto -> statusAtuais.contains(projeto.getStatus()))
+                .toList();
+
+        long modificados = projetoRepository.alterarStatusEmLote(candidatos, statusAtuais, novoStatus);
+
+        Set<String> alterados = candidatos.stream().map(Projeto::getId).collect(Collectors.toSet());
+        if (modificados != candidatos.size()) {
+            // Outra escrita mudou algum candidato no meio: confere quem chegou ao novo status
+            alterados = projetoRepository.buscarStatus(alterados).stream()
+                    .filter(projeto -> projeto.getStatus() == novoStatus)
+                    .map(Projeto::getId)
+                    .collect(Collectors.toSet());
+        }
+        projetoCache.invalidar(alterados);
+
+        ResultadoAlteracaoStatus resultado = new ResultadoAlteracaoStatus(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        for (String id : distintos) {
+            if (alterados.contains(id)) {
+                resultado.getAlterados().add(id);
+            } else if (existentes.containsKey(id)) {
+                resultado.getRecusados().add(id);
+            } else {
+                resultado.getNaoEncontrados().add(id);
+            }
+        }
+
+        log.info("Alteração em lote para {}: {} alterados, {} recusados, {} não encontrados", novoStatus,
+                resultado.getAlterados().size(), resultado.getRecusados().size(), resultado.getNaoEncontrados().size());
+        return resultado;
+    }
+
+    private static List<String> idsDistintos(List<String> ids) {
+        List<String> distintos = ids == null ? List.of() : ids.stream()
+                .filter(id -> id != null && !id.isBlank())
+                .map(String::strip)
+                .distinct()
+                .toList();
+
+        if (distintos.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um id");
+        }
+        if (distintos.size() > LIMITE_MAXIMO_IDS) {
+            throw new IllegalArgumentException("No máximo " + LIMITE_MAXIMO_IDS + " ids por requisição");
+        }
+        return distintos;
+    }
+
+    // Pelo índice em memória quando ele está carregado, a consulta é só por tags e a ordem é a de criação
+    private Optional<Page<Projeto>> paginaPorIndiceTags(FiltroProjeto filtro, Pageable pageable, boolean resumo) {
+        Sort sort = pageable.getSort();
+        Sort.Order porCriacao = sort.getOrderFor("dataCriacao");
+        if (sort.isSorted() && (porCriacao == null || sort.stream().count() > 1)) {
+            return Optional.empty();
+        }
+
+        boolean crescente = porCriacao == null || porCriacao.isAscending();
+        return indiceTags.consultar(filtro, pageable.getOffset(), pageable.getPageSize(), crescente)
+                .<Page<Projeto>>map(resultado -> new PageImpl<>(
+                        projetoRepository.buscarPorIds(resultado.ids(), resumo), pageable, resultado.total()));
+    }
+
+    private static void validarFiltroTags(FiltroProjeto filtro) {
+        if ((filtro.getTags() == null || filtro.getTags().isEmpty())
+                && (filtro.getTagsTodas() == null || filtro.getTagsTodas().isEmpty())) {
+            throw new IllegalArgumentException("Informe tags ou tagsTodas");
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+package com.catarse.backend.service.doacao;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// Journal append-only em segmentos: cada segmento fechado corresponde a exatamente um lote do flush
+class DoacaoJournal implements Closeable {
+
+    static final String PREFIXO = "doacoes-";
+    static final String EXTENSAO = ".journal";
+
+    record Segmento(Path caminho, long entradas) {
+    }
+
+    record ConteudoSegmento(Map<String, Long> incrementos, long entradas) {
+    }
+
+    private final Path diretorio;
+    private final boolean sincronizar;
+    private final ReentrantLock escrita = new ReentrantLock();
+    private final ReentrantLock sincronizacao = new ReentrantLock();
+
+    private FileChannel canal;
+    private Path segmentoAtual;
+    private long entradasNoSegmento;
+    private long sequencia;
+    private long segmentosAbertos;
+    private volatile long sequenciaSincronizada;
+
+    DoacaoJournal(Path diretorio, boolean sincronizar) {
+        this.diretorio = diretorio;
+        this.sincronizar = sincronizar;
+    }
+
+    List<Path> segmentosExistentes() throws IOException {
+        Files.createDirectories(diretorio);
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos
+                    .filter(p -> p.getFileName().toString().startsWith(PREFIXO))
+                    .filter(p -> p.getFileName().toString().endsWith(EXTENSAO))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    void abrir() throws IOException {
+        Files.createDirectories(diretorio);
+        segmentoAtual = diretorio.resolve(String.format("%s%013d-%06d%s",
+                PREFIXO, System.currentTimeMillis(), segmentosAbertos++, EXTENSAO));
+        canal = FileChannel.open(segmentoAtual, StandardOpenOption.CREATE_NEW, StandardOpenOption.APPEND);
+        entradasNoSegmento = 0;
+    }
+
+    void registrar(String projetoId, long centavos) throws IOException {
+        ByteBuffer linha = ByteBuffer.wrap((projetoId + ';' + centavos + '\n').getBytes(StandardCharsets.US_ASCII));
+        long seq;
+
+        escrita.lock();
+        try {
+            while (linha.hasRemaining()) {
+                canal.write(linha);
+            }
+            entradasNoSegmento++;
+            seq = ++sequencia;
+        } finally {
+            escrita.unlock();
+        }
+
+        if (sincronizar) {
+            sincronizarAte(seq);
+        }
+    }
+
+    // Group commit: um único force cobre todas as entradas escritas até aqui
+    private void sincronizarAte(long seq) throws IOException {
+        if (seq <= sequenciaSincronizada) {
+            return;
+        }
+
+        sincronizacao.lock();
+        try {
+            if (seq <= sequenciaSincronizada) {
+                return;
+            }
+
+            long alvo;
+            escrita.lock();
+            try {
+                alvo = sequencia;
+            } finally {
+                escrita.unlock();
+            }
+
+            canal.force(false);
+            sequenciaSincronizada = alvo;
+        } finally {
+            sincronizacao.unlock();
+        }
+    }
+
+    // Deve ser chamado sem registros em andamento; devolve null se o segmento atual está vazio
+    Segmento rotacionar() throws IOException {
+        if (entradasNoSegmento == 0) {
+            return null;
+        }
+
+        canal.force(false);
+        canal.close();
+        Segmento fechado = new Segmento(segmentoAtual, entradasNoSegmento);
+        abrir();
+        return fechado;
+    }
+
+    static ConteudoSegmento ler(Path segmento) throws IOException {
+        String conteudo = Files.readString(segmento, StandardCharsets.US_ASCII);
+        Map<String, Long> incrementos = new HashMap<>();
+        long entradas = 0;
+
+        // Uma linha sem '\n' final é uma escrita interrompida, nunca confirmada ao doador
+        int inicio = 0;
+        int fim;
+        while ((fim = conteudo.indexOf('\n', inicio)) >= 0) {
+            String linha = conteudo.substring(inicio, fim);
+            int separador = linha.indexOf(';');
+            incrementos.merge(linha.substring(0, separador), Long.parseLong(linha.substring(separador + 1)), Long::sum);
+            entradas++;
+            inicio = fim + 1;
+        }
+
+        return new ConteudoSegmento(incrementos, entradas);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (canal == null) {
+            return;
+        }
+
+        canal.force(false);
+        canal.close();
+        if (entradasNoSegmento == 0) {
+            Files.deleteIfExists(segmentoAtual);
+        }
+    }
+}
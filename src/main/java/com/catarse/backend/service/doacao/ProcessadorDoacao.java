@@ -0,0 +1,19 @@
+package com.catarse.backend.service.doacao;
+
+import com.catarse.backend.model.Projeto;
+
+
+public interface ProcessadorDoacao {
+
+    // nova é false quando a chave de idempotência repetiu uma doação já registrada: nada foi somado
+    record Registro(Projeto projeto, boolean nova) {
+    }
+
+    // Valor em centavos, já validado. chaveIdempotencia pode ser null; só é informada quando
+    // aceitaIdempotencia() (modo ledger, que guarda a chave e deduplica repetições)
+    Registro registrar(String id, long centavos, String chaveIdempotencia);
+
+    default boolean aceitaIdempotencia() {
+        return false;
+    }
+}
@@ -0,0 +1,26 @@
+package com.catarse.backend.service.doacao;
+
+import com.catarse.backend.model.Projeto;
+import com.catarse.backend.repository.ProjetoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+@ConditionalOnProperty(name = "catarse.doacao.modo", havingValue = "atomico", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ProcessadorDoacaoAtomico implements ProcessadorDoacao {
+
+    private final ProjetoRepository projetoRepository;
+    private final RegrasDoacao regrasDoacao;
+
+    @Override
+    public Registro registrar(String id, long centavos, String chaveIdempotencia) {
+        Projeto projeto = projetoRepository.adicionarArrecadacao(id, centavos, LocalDate.now())
+                .orElseThrow(() -> regrasDoacao.recusa(id));
+
+        return new Registro(regrasDoacao.aplicarTransicao(projeto), true);
+    }
+}
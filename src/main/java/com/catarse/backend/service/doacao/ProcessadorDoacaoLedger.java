@@ -0,0 +1,190 @@
+package com.catarse.backend.service.doacao;
+
+import com.catarse.backend.config.DoacaoProperties;
+import com.catarse.backend.exception.DoacaoRecusadaException;
+import com.catarse.backend.exception.ResourceNotFoundException;
+import com.catarse.backend.model.Doacao;
+import com.catarse.backend.model.Projeto;
+import com.catarse.backend.repository.DoacaoRepository;
+import com.catarse.backend.repository.ProjetoRepository;
+import com.catarse.backend.repository.TravaRepository;
+import com.catarse.backend.service.ProjetoCache;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Cada doação é um insert na coleção doacoes, sem disputar o documento do projeto. O rollup soma as
+// entradas em lotes e aplica um $inc por projeto; o id do lote fica gravado nas entradas reservadas,
+// então um lote interrompido é reaplicado com o mesmo id e a guarda de lotes do projeto evita somar duas vezes.
+// A meta é garantida pelo valor_pendente do projeto: reservado na doação e baixado pelo rollup junto com o $inc.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "catarse.doacao.modo", havingValue = "ledger")
+public class ProcessadorDoacaoLedger implements ProcessadorDoacao {
+
+    private static final String TRAVA = "rollup-doacoes";
+
+    private final ProjetoRepository projetoRepository;
+    private final DoacaoRepository doacaoRepository;
+    private final TravaRepository travaRepository;
+    private final RegrasDoacao regrasDoacao;
+    private final ProjetoCache projetoCache;
+    private final DoacaoProperties.Ledger config;
+    private final String dono;
+
+    private final Timer duracaoRollup;
+    private final DistributionSummary doacoesPorLote;
+
+    public ProcessadorDoacaoLedger(ProjetoRepository projetoRepository, DoacaoRepository doacaoRepository,
+                                   TravaRepository travaRepository, RegrasDoacao regrasDoacao,
+                                   ProjetoCache projetoCache, DoacaoProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.projetoRepository = projetoRepository;
+        this.doacaoRepository = doacaoRepository;
+        this.travaRepository = travaRepository;
+        this.regrasDoacao = regrasDoacao;
+        this.projetoCache = projetoCache;
+        this.config = properties.getLedger();
+        // Sufixo aleatório: duas instâncias com o mesmo hostname não compartilham a trava
+        this.dono = config.getInstancia() + ":" + UUID.randomUUID();
+
+        this.duracaoRollup = Timer.builder("catarse.doacao.rollup.duracao")
+                .description("Tempo para somar um lote do ledger de doações aos projetos")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.doacoesPorLote = DistributionSummary.builder("catarse.doacao.rollup.doacoes")
+                .description("Doações do ledger aplicadas por lote")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Registro registrar(String id, long centavos, String chaveIdempotencia) {
+        // Repetição de uma doação já registrada: responde de novo, mesmo que o projeto tenha fechado depois
+        if (chaveIdempotencia != null) {
+            Doacao existente = doacaoRepository.buscarPorChave(chaveIdempotencia).orElse(null);
+            if (existente != null) {
+                return repetida(existente, id, centavos);
+            }
+        }
+
+        // Status, prazo e meta (arrecadado + pendente) conferidos e o valor reservado numa só operação:
+        // a doação que atinge a meta passa, as seguintes não, como no modo atômico
+        Projeto projeto = projetoRepository.reservarArrecadacao(id, centavos, LocalDate.now())
+                .orElseThrow(() -> regrasDoacao.recusa(id));
+
+        Doacao doacao = new Doacao();
+        doacao.setProjetoId(id);
+        doacao.setValor(centavos);
+        doacao.setChaveIdempotencia(chaveIdempotencia);
+        doacao.setReservada(true);
+        doacao.setDataCriacao(LocalDateTime.now());
+        try {
+            doacaoRepository.inserir(doacao);
+        } catch (DuplicateKeyException e) {
+            // Requisição concorrente com a mesma chave gravou primeiro
+            projetoRepository.liberarReserva(id, centavos);
+            return repetida(doacaoRepository.buscarPorChave(chaveIdempotencia).orElseThrow(() -> e), id, centavos);
+        } catch (RuntimeException e) {
+            projetoRepository.liberarReserva(id, centavos);
+            throw e;
+        }
+
+        return new Registro(comValorEstimado(projeto), true);
+    }
+
+    @Scheduled(fixedDelayString = "${catarse.doacao.ledger.intervalo-rollup-ms:500}")
+    public void consolidar() {
+        if (!travaRepository.adquirir(TRAVA, dono, config.getDuracaoTrava())) {
+            return;
+        }
+
+        try {
+            // Um lote reservado e não concluído vem primeiro, com o mesmo id
+            String lote = doacaoRepository.buscarLoteInacabado().orElse(null);
+            while (true) {
+                if (lote == null) {
+                    lote = config.getInstancia() + ":" + UUID.randomUUID();
+                    if (doacaoRepository.reservarLote(lote, config.getTamanhoLote()) == 0) {
+                        break;
+                    }
+                }
+
+                int aplicadas = aplicar(lote);
+                lote = null;
+
+                // Lote incompleto: o ledger esvaziou; senão segue, renovando a trava
+                if (aplicadas < config.getTamanhoLote()
+                        || !travaRepository.adquirir(TRAVA, dono, config.getDuracaoTrava())) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Falha no rollup de doações, nova tentativa no próximo ciclo: {}", e.getMessage(), e);
+        }
+
+        travaRepository.liberar(TRAVA, dono);
+    }
+
+    private int aplicar(String lote) {
+        Timer.Sample amostra = Timer.start();
+
+        List<Doacao> doacoes = doacaoRepository.buscarLote(lote);
+        Map<String, Long> incrementos = new HashMap<>();
+        Map<String, Long> reservados = new HashMap<>();
+        for (Doacao doacao : doacoes) {
+            incrementos.merge(doacao.getProjetoId(), doacao.getValor(), Long::sum);
+            if (doacao.isReservada()) {
+                reservados.merge(doacao.getProjetoId(), doacao.getValor(), Long::sum);
+            }
+        }
+
+        if (!incrementos.isEmpty()) {
+            projetoRepository.aplicarLoteArrecadacao(lote, incrementos, reservados);
+
+            projetoRepository.findAllById(incrementos.keySet()).stream()
+                    .filter(p -> Projeto.StatusProjeto.ABERTOS_PARA_DOACAO.contains(p.getStatus()))
+                    .forEach(regrasDoacao::aplicarTransicao);
+
+            projetoCache.invalidar(incrementos.keySet());
+        }
+        doacaoRepository.concluirLote(lote);
+
+        amostra.stop(duracaoRollup);
+        doacoesPorLote.record(doacoes.size());
+        log.debug("Lote {} do ledger aplicado: {} doações em {} projetos", lote, doacoes.size(), incrementos.size());
+        return doacoes.size();
+    }
+
+    private Registro repetida(Doacao doacao, String id, long centavos) {
+        if (!doacao.getProjetoId().equals(id) || doacao.getValor() != centavos) {
+            throw new DoacaoRecusadaException(DoacaoRecusadaException.Motivo.CHAVE_REUTILIZADA,
+                    "Idempotency-Key já usada em outra doação");
+        }
+
+        return new Registro(comValorEstimado(projetoRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Projeto não encontrado com ID: " + id))), false);
+    }
+
+    // Resposta com o valor estimado: persistido + o que ainda aguarda o rollup
+    private static Projeto comValorEstimado(Projeto projeto) {
+        projeto.setValorArrecadado(projeto.getValorArrecadado() + projeto.getValorPendente());
+        return projeto;
+    }
+
+    @Override
+    public boolean aceitaIdempotencia() {
+        return true;
+    }
+}
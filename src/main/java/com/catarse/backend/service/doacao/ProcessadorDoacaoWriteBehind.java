@@ -0,0 +1,310 @@
+package com.catarse.backend.service.doacao;
+
+import com.catarse.backend.config.DoacaoProperties;
+import com.catarse.backend.exception.DoacaoRecusadaException;
+import com.catarse.backend.exception.ResourceNotFoundException;
+import com.catarse.backend.model.Projeto;
+import com.catarse.backend.repository.ProjetoRepository;
+import com.catarse.backend.service.ProjetoCache;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Acumula doações em memória (centavos por projeto) e grava no MongoDB em lotes periódicos.
+// Toda doação é gravada no journal antes de ser confirmada, e o lote só sai do journal depois de aplicado.
+// O estado dos projetos (status, prazo, meta, valor persistido) fica em memória entre os flushes: cada doação
+// valida e reserva o valor numa única operação atômica por projeto, sem ler o MongoDB.
+@Slf4j
+@Component
+// recuperar() aplica lotes do journal: só depois da conversão dos valores para centavos
+@DependsOn("migracaoValoresCentavos")
+@ConditionalOnProperty(name = "catarse.doacao.modo", havingValue = "write-behind")
+public class ProcessadorDoacaoWriteBehind implements ProcessadorDoacao {
+
+    private final ProjetoRepository projetoRepository;
+    private final RegrasDoacao regrasDoacao;
+    private final ProjetoCache projetoCache;
+    private final DoacaoJournal journal;
+    private final String instancia;
+
+    // Leitura: registro de doações (compartilhado). Escrita: corte consistente entre contadores e journal.
+    private final ReentrantReadWriteLock corte = new ReentrantReadWriteLock();
+    private final ReentrantLock descarga = new ReentrantLock();
+    private final Deque<Lote> lotesPendentes = new ArrayDeque<>();
+    private final AtomicLong doacoesPendentes = new AtomicLong();
+    private volatile ConcurrentHashMap<String, LongAdder> contadores = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, EstadoProjeto> estados = new ConcurrentHashMap<>();
+    private final long intervaloFlushMs;
+
+    private final Timer duracaoFlush;
+    private final DistributionSummary projetosPorLote;
+    private final DistributionSummary doacoesPorLote;
+
+    private record Lote(String id, Path segmento, Map<String, Long> incrementos, long doacoes) {
+    }
+
+    // projeto: como estava no MongoDB ao ser carregado ou no último flush. pendente: doações aceitas por esta
+    // instância e ainda não aplicadas (inclusive em lotes já fechados)
+    private record EstadoProjeto(Projeto projeto, long pendente, long carregadoEm) {
+
+        long valorEstimado() {
+            return projeto.getValorArrecadado() + pendente;
+        }
+    }
+
+    public ProcessadorDoacaoWriteBehind(ProjetoRepository projetoRepository, RegrasDoacao regrasDoacao,
+                                        ProjetoCache projetoCache, DoacaoProperties properties,
+                                        MeterRegistry meterRegistry) {
+        DoacaoProperties.WriteBehind config = properties.getWriteBehind();
+        this.projetoRepository = projetoRepository;
+        this.regrasDoacao = regrasDoacao;
+        this.projetoCache = projetoCache;
+        this.journal = new DoacaoJournal(Path.of(config.getDiretorioJournal()), config.isSincronizarJournal());
+        this.instancia = config.getInstancia();
+        this.intervaloFlushMs = config.getIntervaloFlushMs();
+
+        this.duracaoFlush = Timer.builder("catarse.doacao.flush.duracao")
+                .description("Tempo para aplicar um lote de doações no MongoDB")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.projetosPorLote = DistributionSummary.builder("catarse.doacao.flush.projetos")
+                .description("Projetos atualizados por lote")
+                .register(meterRegistry);
+        this.doacoesPorLote = DistributionSummary.builder("catarse.doacao.flush.doacoes")
+                .description("Doações agregadas por lote")
+                .register(meterRegistry);
+        Gauge.builder("catarse.doacao.journal.pendentes", doacoesPendentes, AtomicLong::get)
+                .description("Doações confirmadas ainda não aplicadas no MongoDB")
+                .register(meterRegistry);
+        Gauge.builder("catarse.doacao.write-behind.projetos", estados, Map::size)
+                .description("Projetos com estado em memória no modo write-behind")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void recuperar() throws IOException {
+        // Segmentos que sobraram de uma execução anterior: foram confirmados mas talvez não aplicados
+        for (Path segmento : journal.segmentosExistentes()) {
+            DoacaoJournal.ConteudoSegmento conteudo = DoacaoJournal.ler(segmento);
+            lotesPendentes.addLast(new Lote(loteId(segmento), segmento, conteudo.incrementos(), conteudo.entradas()));
+            doacoesPendentes.addAndGet(conteudo.entradas());
+        }
+
+        if (!lotesPendentes.isEmpty()) {
+            log.info("Reaplicando {} lotes de doações do journal", lotesPendentes.size());
+        }
+
+        journal.abrir();
+        descarregar();
+
+        // Lotes que não puderam ser aplicados agora continuam contando para a meta
+        Map<String, Long> naoAplicados = new HashMap<>();
+        lotesPendentes.forEach(lote -> lote.incrementos().forEach((id, centavos) -> naoAplicados.merge(id, centavos, Long::sum)));
+        if (!naoAplicados.isEmpty()) {
+            long agora = System.currentTimeMillis();
+            projetoRepository.findAllById(naoAplicados.keySet()).forEach(projeto ->
+                    estados.put(projeto.getId(), new EstadoProjeto(projeto, naoAplicados.get(projeto.getId()), agora)));
+        }
+    }
+
+    @Override
+    public Registro registrar(String id, long centavos, String chaveIdempotencia) {
+        EstadoProjeto estado;
+        corte.readLock().lock();
+        try {
+            estado = reservar(id, centavos, LocalDate.now());
+            try {
+                journal.registrar(id, centavos);
+            } catch (IOException e) {
+                estados.computeIfPresent(id, (chave, atual) ->
+                        new EstadoProjeto(atual.projeto(), atual.pendente() - centavos, atual.carregadoEm()));
+                throw new UncheckedIOException("Falha ao gravar doação no journal", e);
+            }
+
+            contadores.computeIfAbsent(id, k -> new LongAdder()).add(centavos);
+            doacoesPendentes.incrementAndGet();
+        } finally {
+            corte.readLock().unlock();
+        }
+
+        // Resposta com o valor estimado: persistido + o que ainda aguarda flush
+        return new Registro(comValor(estado.projeto(), estado.valorEstimado()), true);
+    }
+
+    // Validação e reserva atômicas por projeto: doações concorrentes não ultrapassam a meta juntas
+    private EstadoProjeto reservar(String id, long centavos, LocalDate hoje) {
+        while (true) {
+            if (!estados.containsKey(id)) {
+                Projeto projeto = projetoRepository.findById(id)
+                        .orElseThrow(() -> new ResourceNotFoundException("Projeto não encontrado com ID: " + id));
+                estados.putIfAbsent(id, new EstadoProjeto(projeto, 0, System.currentTimeMillis()));
+            }
+
+            EstadoProjeto reservado = estados.computeIfPresent(id, (chave, atual) -> {
+                regrasDoacao.validarAberto(atual.projeto(), hoje);
+
+                // Mesmo comportamento do modo atômico: a doação que atinge a meta passa, as seguintes não
+                if (atual.valorEstimado() >= atual.projeto().getMetaFinanceira()) {
+                    throw new DoacaoRecusadaException(DoacaoRecusadaException.Motivo.NAO_ABERTO,
+                            "Projeto não está aberto para doações");
+                }
+                return new EstadoProjeto(atual.projeto(), atual.pendente() + centavos, atual.carregadoEm());
+            });
+
+            // null: o estado foi descartado entre a carga e a reserva; carrega de novo
+            if (reservado != null) {
+                return reservado;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${catarse.doacao.write-behind.intervalo-flush-ms:200}")
+    public void descarregar() {
+        if (!descarga.tryLock()) {
+            return;
+        }
+
+        try {
+            fecharLoteAtual();
+
+            // Em caso de falha o lote fica na fila e é reaplicado com o mesmo id no próximo ciclo
+            while (!lotesPendentes.isEmpty()) {
+                aplicar(lotesPendentes.peekFirst());
+                lotesPendentes.pollFirst();
+            }
+
+            descartarEstadosOciosos();
+        } catch (IOException | RuntimeException e) {
+            log.error("Falha ao aplicar lote de doações, nova tentativa no próximo ciclo: {}", e.getMessage(), e);
+        } finally {
+            descarga.unlock();
+        }
+    }
+
+    @PreDestroy
+    void encerrar() throws IOException {
+        descarregar();
+        journal.close();
+    }
+
+    private void fecharLoteAtual() throws IOException {
+        Map<String, LongAdder> fechados;
+        DoacaoJournal.Segmento segmento;
+
+        corte.writeLock().lock();
+        try {
+            segmento = journal.rotacionar();
+            if (segmento == null) {
+                return;
+            }
+            fechados = contadores;
+            contadores = new ConcurrentHashMap<>();
+        } finally {
+            corte.writeLock().unlock();
+        }
+
+        // Sem escritores no mapa antigo a partir daqui: a soma é exata
+        Map<String, Long> incrementos = new HashMap<>();
+        fechados.forEach((id, contador) -> {
+            long soma = contador.sum();
+            if (soma > 0) {
+                incrementos.put(id, soma);
+            }
+        });
+
+        lotesPendentes.addLast(new Lote(loteId(segmento.caminho()), segmento.caminho(), incrementos, segmento.entradas()));
+    }
+
+    private void aplicar(Lote lote) throws IOException {
+        Timer.Sample amostra = Timer.start();
+
+        Map<String, Long> incrementos = lote.incrementos();
+
+        if (!incrementos.isEmpty()) {
+            projetoRepository.aplicarLoteArrecadacao(lote.id(), incrementos, Map.of());
+
+            Map<String, Projeto> atualizados = new HashMap<>();
+            for (Projeto projeto : projetoRepository.findAllById(incrementos.keySet())) {
+                atualizados.put(projeto.getId(), Projeto.StatusProjeto.ABERTOS_PARA_DOACAO.contains(projeto.getStatus())
+                        ? regrasDoacao.aplicarTransicao(projeto)
+                        : projeto);
+            }
+
+            // O valor persistido já inclui o lote: sai do pendente e o estado em memória é renovado
+            long agora = System.currentTimeMillis();
+            incrementos.forEach((id, aplicado) -> estados.computeIfPresent(id, (chave, atual) -> {
+                Projeto atualizado = atualizados.get(id);
+                return atualizado == null ? null : new EstadoProjeto(atualizado, atual.pendente() - aplicado, agora);
+            }));
+
+            projetoCache.invalidar(incrementos.keySet());
+        }
+
+        Files.deleteIfExists(lote.segmento());
+        doacoesPendentes.addAndGet(-lote.doacoes());
+
+        amostra.stop(duracaoFlush);
+        projetosPorLote.record(incrementos.size());
+        doacoesPorLote.record(lote.doacoes());
+        log.debug("Lote {} aplicado: {} doações em {} projetos", lote.id(), lote.doacoes(), incrementos.size());
+    }
+
+    // Projetos sem doações pendentes e sem renovação neste ciclo: a próxima doação relê o MongoDB, o que
+    // limita a defasagem de status, prazo e meta a um intervalo de flush
+    private void descartarEstadosOciosos() {
+        long limite = System.currentTimeMillis() - intervaloFlushMs;
+        for (String id : estados.keySet()) {
+            estados.computeIfPresent(id, (chave, atual) ->
+                    atual.pendente() == 0 && atual.carregadoEm() < limite ? null : atual);
+        }
+    }
+
+    // Cópia para a resposta: o projeto do estado é compartilhado entre requisições
+    private static Projeto comValor(Projeto projeto, long valorArrecadado) {
+        Projeto copia = Projeto.builder()
+                .id(projeto.getId())
+                .titulo(projeto.getTitulo())
+                .descricao(projeto.getDescricao())
+                .categoria(projeto.getCategoria())
+                .metaFinanceira(projeto.getMetaFinanceira())
+                .valorArrecadado(valorArrecadado)
+                .dataLimite(projeto.getDataLimite())
+                .criadorId(projeto.getCriadorId())
+                .tags(projeto.getTags())
+                .status(projeto.getStatus())
+                .imagemUrl(projeto.getImagemUrl())
+                .dataCriacao(projeto.getDataCriacao())
+                .dataAtualizacao(projeto.getDataAtualizacao())
+                .build();
+        copia.setVersao(projeto.getVersao());
+        return copia;
+    }
+
+    private String loteId(Path segmento) {
+        String nome = segmento.getFileName().toString();
+        return instancia + ":" + nome.substring(0, nome.length() - DoacaoJournal.EXTENSAO.length());
+    }
+}
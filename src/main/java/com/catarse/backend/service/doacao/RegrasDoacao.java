@@ -0,0 +1,62 @@
+package com.catarse.backend.service.doacao;
+
+import com.catarse.backend.exception.DoacaoRecusadaException;
+import com.catarse.backend.exception.ResourceNotFoundException;
+import com.catarse.backend.model.Projeto;
+import com.catarse.backend.repository.ProjetoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+
+@Component
+@RequiredArgsConstructor
+public class RegrasDoacao {
+
+    private final ProjetoRepository projetoRepository;
+
+    public void validarAberto(Projeto projeto, LocalDate hoje) {
+        if (!Projeto.StatusProjeto.ABERTOS_PARA_DOACAO.contains(projeto.getStatus())) {
+            throw new DoacaoRecusadaException(DoacaoRecusadaException.Motivo.NAO_ABERTO,
+                    "Projeto não está aberto para doações");
+        }
+
+        if (hoje.isAfter(projeto.getDataLimite())) {
+            throw new DoacaoRecusadaException(DoacaoRecusadaException.Motivo.EXPIRADO,
+                    "Prazo para doações já expirou");
+        }
+    }
+
+    // Usado quando uma atualização condicional não casou: descobre o motivo da recusa
+    public RuntimeException recusa(String id) {
+        Projeto projeto = projetoRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Projeto não encontrado com ID: " + id));
+
+        try {
+            validarAberto(projeto, LocalDate.now());
+        } catch (DoacaoRecusadaException e) {
+            return e;
+        }
+
+        return new DoacaoRecusadaException(DoacaoRecusadaException.Motivo.NAO_ABERTO,
+                "Projeto não está aberto para doações");
+    }
+
+    // Transições condicionadas ao status atual: seguras mesmo com doações concorrentes
+    public Projeto aplicarTransicao(Projeto projeto) {
+        if (projeto.getValorArrecadado() >= projeto.getMetaFinanceira()) {
+            return projetoRepository.alterarStatus(projeto.getId(),
+                            Projeto.StatusProjeto.ABERTOS_PARA_DOACAO, Projeto.StatusProjeto.CONCLUIDO)
+                    .orElse(projeto);
+        }
+
+        if (projeto.getStatus() == Projeto.StatusProjeto.PUBLICADO) {
+            return projetoRepository.alterarStatus(projeto.getId(),
+                            EnumSet.of(Projeto.StatusProjeto.PUBLICADO), Projeto.StatusProjeto.EM_ANDAMENTO)
+                    .orElse(projeto);
+        }
+
+        return projeto;
+    }
+}
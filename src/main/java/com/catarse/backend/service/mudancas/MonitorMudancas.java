@@ -0,0 +1,224 @@
+package com.catarse.backend.service.mudancas;
+
+import com.catarse.backend.config.MudancasProperties;
+import com.catarse.backend.model.Projeto;
+import com.catarse.backend.repository.MarcadorMudancasRepository;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Acompanha o change stream da coleção de projetos e publica ProjetoMudancaEvent para os ouvintes
+// desta instância, inclusive para alterações feitas por outras réplicas. O token de retomada é
+// gravado periodicamente no MongoDB: após um reinício ou queda de conexão o fluxo continua de onde
+// parou, reentregando no máximo os eventos do último intervalo de gravação.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "catarse.mudancas.enabled", havingValue = "true")
+public class MonitorMudancas {
+
+    // Campos gravados por uma doação (atômica ou em lote); qualquer outro campo torna a alteração ATUALIZADO
+    private static final Set<String> CAMPOS_DOACAO = Set.of("valor_arrecadado", "valor_pendente", "versao", "data_atualizacao", "lotes_doacao");
+    private static final int CODIGO_TOKEN_INVALIDO = 260;
+    private static final int CODIGO_HISTORICO_PERDIDO = 286;
+    private static final long ESPERA_MAXIMA_SEGUNDOS = 1;
+
+    private final MongoTemplate mongoTemplate;
+    private final MarcadorMudancasRepository marcadorRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MudancasProperties properties;
+
+    private final Map<ProjetoMudancaEvent.Tipo, Counter> eventos = new EnumMap<>(ProjetoMudancaEvent.Tipo.class);
+    private final Timer atraso;
+
+    private volatile boolean ativo;
+    private Thread leitor;
+    // Último token entregue; reconexões partem dele sem consultar o MongoDB
+    private BsonDocument token;
+
+    public MonitorMudancas(MongoTemplate mongoTemplate, MarcadorMudancasRepository marcadorRepository,
+                           ApplicationEventPublisher eventPublisher, MudancasProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.marcadorRepository = marcadorRepository;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+
+        for (ProjetoMudancaEvent.Tipo tipo : ProjetoMudancaEvent.Tipo.values()) {
+            eventos.put(tipo, Counter.builder("catarse.mudancas.eventos")
+                    .description("Alterações em projetos recebidas pelo change stream")
+                    .tag("tipo", tipo.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        this.atraso = Timer.builder("catarse.mudancas.atraso")
+                .description("Tempo entre a gravação no MongoDB e a entrega do evento aos ouvintes")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        token = marcadorRepository.buscarToken(properties.getInstancia()).orElse(null);
+        ativo = true;
+        leitor = Thread.ofVirtual().name("monitor-mudancas").start(this::executar);
+        log.info("Monitor de mudanças iniciado {}", token != null ? "a partir do último token" : "do momento atual");
+    }
+
+    @PreDestroy
+    public void parar() throws InterruptedException {
+        ativo = false;
+        if (leitor != null) {
+            leitor.join(Duration.ofSeconds(ESPERA_MAXIMA_SEGUNDOS * 5));
+        }
+    }
+
+    private void executar() {
+        while (ativo) {
+            try {
+                acompanhar();
+            } catch (MongoCommandException e) {
+                if (e.getErrorCode() == CODIGO_HISTORICO_PERDIDO || e.getErrorCode() == CODIGO_TOKEN_INVALIDO) {
+                    log.warn("Não foi possível retomar o change stream ({}); recomeçando do momento atual", e.getErrorCodeName());
+                    recomecar();
+                } else {
+                    log.warn("Falha no change stream de projetos; reconectando", e);
+                    esperar();
+                }
+            } catch (MongoException e) {
+                log.warn("Falha no change stream de projetos; reconectando", e);
+                esperar();
+            } catch (RuntimeException e) {
+                log.error("Erro inesperado no monitor de mudanças; reconectando", e);
+                esperar();
+            }
+        }
+    }
+
+    private void acompanhar() {
+        ChangeStreamIterable<Document> fluxo = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Projeto.class))
+                .watch(List.of(Aggregates.match(Filters.in("operationType", "insert", "update", "replace", "delete"))))
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .maxAwaitTime(ESPERA_MAXIMA_SEGUNDOS, TimeUnit.SECONDS);
+        if (token != null) {
+            fluxo = fluxo.resumeAfter(token);
+        }
+
+        BsonDocument registrado = token;
+        long ultimoRegistro = System.nanoTime();
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = fluxo.cursor()) {
+            while (ativo) {
+                ChangeStreamDocument<Document> mudanca = cursor.tryNext();
+                if (mudanca != null) {
+                    if (mudanca.getOperationType() == OperationType.INVALIDATE) {
+                        log.warn("Change stream invalidado (coleção removida ou renomeada); recomeçando do momento atual");
+                        recomecar();
+                        return;
+                    }
+                    publicar(mudanca);
+                }
+
+                // Sem eventos, o token ainda avança com o postBatchResumeToken do servidor
+                BsonDocument atual = cursor.getResumeToken();
+                if (atual != null) {
+                    token = atual;
+                }
+                if (token != null && !token.equals(registrado)
+                        && System.nanoTime() - ultimoRegistro >= properties.getIntervaloRegistroToken().toNanos()) {
+                    marcadorRepository.salvarToken(properties.getInstancia(), token);
+                    registrado = token;
+                    ultimoRegistro = System.nanoTime();
+                }
+            }
+        }
+
+        if (token != null && !token.equals(registrado)) {
+            marcadorRepository.salvarToken(properties.getInstancia(), token);
+        }
+    }
+
+    private void publicar(ChangeStreamDocument<Document> mudanca) {
+        ProjetoMudancaEvent.Tipo tipo = switch (mudanca.getOperationType()) {
+            case INSERT -> ProjetoMudancaEvent.Tipo.CRIADO;
+            case DELETE -> ProjetoMudancaEvent.Tipo.REMOVIDO;
+            case UPDATE -> somenteDoacao(mudanca.getUpdateDescription())
+                    ? ProjetoMudancaEvent.Tipo.DOACAO
+                    : ProjetoMudancaEvent.Tipo.ATUALIZADO;
+            default -> ProjetoMudancaEvent.Tipo.ATUALIZADO;
+        };
+        Projeto projeto = mudanca.getFullDocument() != null
+                ? mongoTemplate.getConverter().read(Projeto.class, mudanca.getFullDocument())
+                : null;
+
+        try {
+            eventPublisher.publishEvent(new ProjetoMudancaEvent(tipo, idDe(mudanca.getDocumentKey()), projeto));
+        } catch (RuntimeException e) {
+            // Um ouvinte com erro não pode parar o fluxo nem impedir o avanço do token
+            log.error("Falha ao processar alteração {} do projeto {}", tipo, mudanca.getDocumentKey(), e);
+        }
+
+        eventos.get(tipo).increment();
+        if (mudanca.getWallTime() != null) {
+            atraso.record(Duration.between(Instant.ofEpochMilli(mudanca.getWallTime().getValue()), Instant.now()));
+        }
+    }
+
+    private void recomecar() {
+        token = null;
+        marcadorRepository.remover(properties.getInstancia());
+        eventPublisher.publishEvent(new MudancasPerdidasEvent());
+    }
+
+    private void esperar() {
+        try {
+            Thread.sleep(properties.getEsperaReconexao());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ativo = false;
+        }
+    }
+
+    private static boolean somenteDoacao(UpdateDescription descricao) {
+        if (descricao == null || (descricao.getRemovedFields() != null && !descricao.getRemovedFields().isEmpty())
+                || descricao.getUpdatedFields() == null) {
+            return false;
+        }
+
+        // Atualizações de array podem vir por posição, como "lotes_doacao.3"
+        return descricao.getUpdatedFields().keySet().stream()
+                .map(campo -> campo.contains(".") ? campo.substring(0, campo.indexOf('.')) : campo)
+                .allMatch(CAMPOS_DOACAO::contains);
+    }
+
+    private static String idDe(BsonDocument chave) {
+        BsonValue id = chave.get("_id");
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
+    }
+}
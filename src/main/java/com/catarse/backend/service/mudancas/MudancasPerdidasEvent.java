@@ -0,0 +1,6 @@
+package com.catarse.backend.service.mudancas;
+
+// O change stream não pôde ser retomado (histórico do oplog expirou ou a coleção foi recriada) e
+// recomeçou do momento atual; estado em memória derivado de projetos deve ser recarregado.
+public record MudancasPerdidasEvent() {
+}
@@ -0,0 +1,18 @@
+package com.catarse.backend.service.mudancas;
+
+import com.catarse.backend.model.Projeto;
+
+// Alteração em um projeto, feita por qualquer instância. A entrega é ao menos uma vez: após um
+// reinício, eventos já vistos podem chegar de novo, então os ouvintes devem ser idempotentes.
+// projeto traz o documento atual (não necessariamente o desta alteração) e é null em REMOVIDO
+// ou quando o projeto já foi apagado ao ler a alteração.
+public record ProjetoMudancaEvent(Tipo tipo, String projetoId, Projeto projeto) {
+
+    public enum Tipo {
+        CRIADO,
+        ATUALIZADO,
+        // Só valor arrecadado e campos de controle mudaram
+        DOACAO,
+        REMOVIDO
+    }
+}
@@ -0,0 +1,141 @@
+package com.catarse.backend.service.reativo;
+
+import com.catarse.backend.dto.CursorPage;
+import com.catarse.backend.dto.CursorProjeto;
+import com.catarse.backend.dto.FiltroProjeto;
+import com.catarse.backend.dto.ProjetoResponse;
+import com.catarse.backend.dto.ProjetoSummary;
+import com.catarse.backend.dto.ResultadoImportacao;
+import com.catarse.backend.dto.Versionado;
+import com.catarse.backend.dto.VisaoProjeto;
+import com.catarse.backend.exception.ResourceNotFoundException;
+import com.catarse.backend.model.Projeto;
+import com.catarse.backend.repository.ProjetoReactiveRepository;
+import com.catarse.backend.service.ImportacaoProjetoService;
+import com.catarse.backend.service.ProjetoCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+// Leituras do perfil reactive direto no driver reactive streams. Escritas e consultas que dependem de
+// estado em memória (índice de tags, estatísticas, processador de doações) usam os serviços
+// bloqueantes em boundedElastic, para que versão, estatísticas, cache e índice sigam uma única regra.
+@Slf4j
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ProjetoServiceReativo {
+
+    private static final int TAMANHO_MAXIMO_CURSOR = 100;
+    private static final int TAMANHO_BUFFER_IMPORTACAO = 64 * 1024;
+    private static final int PREFETCH_IMPORTACAO = 4;
+
+    private final ProjetoReactiveRepository projetoRepository;
+    private final ProjetoCache projetoCache;
+    private final ImportacaoProjetoService importacaoProjetoService;
+
+    // O cache é consultado sem carregar: o carregador dele é bloqueante
+    public Mono<ProjetoResponse> buscarPorId(String id) {
+        log.debug("Buscando projeto por ID: {}", id);
+
+        return Mono.justOrEmpty(projetoCache.presente(id))
+                .switchIfEmpty(projetoRepository.findById(id).map(ProjetoResponse::fromEntity))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Projeto não encontrado com ID: " + id)));
+    }
+
+    public Mono<Long> buscarVersao(String id) {
+        ProjetoResponse emCache = projetoCache.presente(id);
+        if (emCache != null) {
+            return Mono.just(emCache.getVersao());
+        }
+
+        return projetoRepository.buscarVersao(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Projeto não encontrado com ID: " + id)));
+    }
+
+    public Mono<Page<? extends Versionado>> listar(FiltroProjeto filtro, Pageable pageable, VisaoProjeto visao) {
+        log.debug("Listando projetos ({}): {}", visao, filtro);
+
+        boolean resumo = visao == VisaoProjeto.RESUMO;
+        return projetoRepository.buscarPorFiltro(filtro, pageable, resumo)
+                .<Page<? extends Versionado>>map(pagina -> resumo
+                        ? pagina.map(ProjetoSummary::fromEntity)
+                        : pagina.map(ProjetoResponse::fromEntity));
+    }
+
+    public Mono<CursorPage<ProjetoResponse>> listarPorCursor(FiltroProjeto filtro, String cursor, int tamanho) {
+        log.debug("Listando projetos por cursor: {}", filtro);
+
+        int limite = Math.min(Math.max(tamanho, 1), TAMANHO_MAXIMO_CURSOR);
+        CursorProjeto apos = cursor == null || cursor.isBlank() ? null : CursorProjeto.decodificar(cursor);
+
+        // Um item a mais indica se existe próxima página, sem precisar de count
+        return projetoRepository.buscarPorCursor(filtro, apos, limite + 1)
+                .collectList()
+                .map(projetos -> {
+                    boolean temProxima = projetos.size() > limite;
+                    List<Projeto> pagina = temProxima ? projetos.subList(0, limite) : projetos;
+                    String proximoCursor = temProxima ? CursorProjeto.apos(pagina.get(limite - 1)).codificar() : null;
+                    return new CursorPage<>(pagina.stream().map(ProjetoResponse::fromEntity).toList(), proximoCursor);
+                });
+    }
+
+    // Um elemento por linha NDJSON; a demanda do cliente controla quantos lotes o cursor busca
+    public Flux<ProjetoResponse> exportar(FiltroProjeto filtro) {
+        log.info("Exportando projetos: {}", filtro);
+
+        return projetoRepository.streamPorFiltro(filtro)
+                .map(ProjetoResponse::fromEntity);
+    }
+
+    // O corpo chega por um pipe com buffer fixo: a importação (bloqueante) lê no ritmo em que grava os lotes
+    public Mono<ResultadoImportacao> importar(Flux<DataBuffer> corpo) {
+        return Mono.<ResultadoImportacao, PipedInputStream>using(
+                () -> new PipedInputStream(TAMANHO_BUFFER_IMPORTACAO),
+                entrada -> {
+                    PipedOutputStream saida;
+                    try {
+                        saida = new PipedOutputStream(entrada);
+                    } catch (IOException e) {
+                        return Mono.error(e);
+                    }
+
+                    // A escrita no pipe bloqueia quando ele enche: sai da thread de I/O antes de escrever
+                    DataBufferUtils.write(corpo.publishOn(Schedulers.boundedElastic(), PREFETCH_IMPORTACAO), saida)
+                            .doFinally(sinal -> fechar(saida))
+                            .subscribe(DataBufferUtils.releaseConsumer(),
+                                    erro -> log.warn("Falha ao ler o corpo da importação: {}", erro.getMessage()));
+
+                    return bloqueante(() -> importacaoProjetoService.importar(entrada));
+                },
+                // Fechar a leitura destrava o escritor se a importação terminar antes do corpo
+                this::fechar);
+    }
+
+    public <T> Mono<T> bloqueante(Callable<T> tarefa) {
+        return Mono.fromCallable(tarefa).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private void fechar(Closeable recurso) {
+        try {
+            recurso.close();
+        } catch (IOException e) {
+            log.debug("Falha ao fechar pipe da importação: {}", e.getMessage());
+        }
+    }
+}
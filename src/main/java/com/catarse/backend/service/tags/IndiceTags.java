@@ -0,0 +1,361 @@
+package com.catarse.backend.service.tags;
+
+import com.catarse.backend.config.IndiceTagsProperties;
+import com.catarse.backend.config.MudancasProperties;
+import com.catarse.backend.dto.FacetaTag;
+import com.catarse.backend.dto.FiltroProjeto;
+import com.catarse.backend.model.Projeto;
+import com.catarse.backend.repository.ProjetoRepository;
+import com.catarse.backend.service.mudancas.MudancasPerdidasEvent;
+import com.catarse.backend.service.mudancas.ProjetoMudancaEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// Índice invertido em memória: tag -> bitmap de posições de projeto. As posições seguem a ordem de
+// criação, então a n-ésima posição de um resultado é o n-ésimo projeto mais antigo que casa.
+// Escritas desta instância chegam por ProjetoService; as de outras instâncias, pelo change stream
+// (catarse.mudancas) ou, sem ele, pela sincronização periódica. Enquanto o índice não está
+// carregado, consultar() e facetas() devolvem vazio e quem chama usa o MongoDB.
+@Slf4j
+@Component
+public class IndiceTags {
+
+    private static final String[] SEM_TAGS = new String[0];
+    private static final long MARGEM_SINCRONIZACAO_SEGUNDOS = 5;
+
+    // Ordem crescente de relevância da faceta: menor contagem primeiro, empate pela tag de maior ordem alfabética
+    private static final Comparator<FacetaTag> MENOR_FACETA = Comparator.comparingLong(FacetaTag::quantidade)
+            .thenComparing(FacetaTag::tag, Comparator.reverseOrder());
+
+    public record Resultado(List<String> ids, long total) {
+    }
+
+    private final ProjetoRepository projetoRepository;
+    private final IndiceTagsProperties properties;
+    private final MudancasProperties mudancasProperties;
+
+    // Protege atual e fila; a estrutura em si não é thread-safe
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Uma carga ou sincronização por vez
+    private final ReentrantLock carga = new ReentrantLock();
+
+    private Indice atual;
+    // Escritas recebidas durante uma recarga, reaplicadas no índice novo antes da troca
+    private List<Consumer<Indice>> fila;
+    private volatile LocalDateTime ultimaSincronizacao;
+
+    public IndiceTags(ProjetoRepository projetoRepository, IndiceTagsProperties properties,
+                      MudancasProperties mudancasProperties, MeterRegistry meterRegistry) {
+        this.projetoRepository = projetoRepository;
+        this.properties = properties;
+        this.mudancasProperties = mudancasProperties;
+
+        Gauge.builder("catarse.indice.tags.projetos", this, indice -> indice.tamanho(false))
+                .description("Projetos no índice de tags em memória")
+                .register(meterRegistry);
+        Gauge.builder("catarse.indice.tags.tags", this, indice -> indice.tamanho(true))
+                .description("Tags distintas no índice em memória")
+                .register(meterRegistry);
+    }
+
+    public void atualizar(String id, Collection<String> tags) {
+        aplicar(indice -> indice.definir(id, tags));
+    }
+
+    public void remover(String id) {
+        aplicar(indice -> indice.remover(id));
+    }
+
+    // Só responde consultas exclusivamente por tags; qualquer outro filtro fica com o MongoDB
+    public Optional<Resultado> consultar(FiltroProjeto filtro, long inicio, int tamanho, boolean crescente) {
+        if (!somenteTags(filtro)) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (atual == null) {
+                return Optional.empty();
+            }
+
+            RoaringBitmap resultado = atual.avaliar(filtro);
+            long total = resultado.getLongCardinality();
+            List<String> ids = new ArrayList<>(tamanho);
+            for (long k = inicio; k < Math.min(inicio + tamanho, total); k++) {
+                int posicao = resultado.select((int) (crescente ? k : total - 1 - k));
+                ids.add(atual.ids.get(posicao));
+            }
+            return Optional.of(new Resultado(ids, total));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<List<FacetaTag>> facetas(FiltroProjeto filtro, int limite) {
+        if (!somenteTags(filtro)) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (atual == null) {
+                return Optional.empty();
+            }
+
+            boolean semFiltro = !temItens(filtro.getTags()) && !temItens(filtro.getTagsTodas())
+                    && !temItens(filtro.getTagsExcluidas());
+            RoaringBitmap resultado = semFiltro ? null : atual.avaliar(filtro);
+
+            // Heap mínimo com as N maiores contagens
+            PriorityQueue<FacetaTag> maiores = new PriorityQueue<>(MENOR_FACETA);
+            atual.porTag.forEach((tag, projetos) -> {
+                long quantidade = resultado == null
+                        ? projetos.getLongCardinality()
+                        : RoaringBitmap.andCardinality(projetos, resultado);
+                if (quantidade > 0) {
+                    maiores.add(new FacetaTag(tag, quantidade));
+                    if (maiores.size() > limite) {
+                        maiores.poll();
+                    }
+                }
+            });
+
+            List<FacetaTag> facetas = new ArrayList<>(maiores);
+            facetas.sort(MENOR_FACETA.reversed());
+            return Optional.of(facetas);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Doações não mudam tags; o projeto lido junto com a alteração pode ser mais novo que ela, o que só adianta o índice
+    @EventListener
+    public void aoMudar(ProjetoMudancaEvent mudanca) {
+        switch (mudanca.tipo()) {
+            case CRIADO, ATUALIZADO -> {
+                if (mudanca.projeto() != null) {
+                    atualizar(mudanca.projetoId(), mudanca.projeto().getTags());
+                }
+            }
+            case REMOVIDO -> remover(mudanca.projetoId());
+            case DOACAO -> {
+            }
+        }
+    }
+
+    @EventListener(MudancasPerdidasEvent.class)
+    public void aoPerderMudancas() {
+        reconstruir();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        if (properties.isEnabled()) {
+            // Fora da thread de inicialização: até terminar, as consultas vão para o MongoDB
+            Thread.ofVirtual().name("indice-tags-carga").start(this::carregar);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${catarse.indice-tags.intervalo-reconstrucao-ms:3600000}",
+            initialDelayString = "${catarse.indice-tags.intervalo-reconstrucao-ms:3600000}")
+    public void reconstruir() {
+        if (properties.isEnabled()) {
+            Thread.ofVirtual().name("indice-tags-carga").start(this::carregar);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${catarse.indice-tags.intervalo-sincronizacao-ms:30000}")
+    public void sincronizar() {
+        LocalDateTime desde = ultimaSincronizacao;
+        if (mudancasProperties.isEnabled() || desde == null || !carga.tryLock()) {
+            return;
+        }
+
+        try {
+            LocalDateTime inicio = LocalDateTime.now();
+            int sincronizados = 0;
+            try (Stream<Projeto> projetos = projetoRepository.streamTags(desde.minusSeconds(MARGEM_SINCRONIZACAO_SEGUNDOS))) {
+                for (Projeto projeto : (Iterable<Projeto>) projetos::iterator) {
+                    atualizar(projeto.getId(), projeto.getTags());
+                    sincronizados++;
+                }
+            }
+            ultimaSincronizacao = inicio;
+            log.debug("Índice de tags sincronizado: {} projetos alterados", sincronizados);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao sincronizar o índice de tags; nova tentativa no próximo ciclo", e);
+        } finally {
+            carga.unlock();
+        }
+    }
+
+    void carregar() {
+        if (!carga.tryLock()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            fila = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Indice novo = new Indice();
+        try {
+            LocalDateTime inicio = LocalDateTime.now();
+            try (Stream<Projeto> projetos = projetoRepository.streamTags(null)) {
+                projetos.forEach(projeto -> novo.definir(projeto.getId(), projeto.getTags()));
+            }
+
+            lock.writeLock().lock();
+            try {
+                fila.forEach(escrita -> escrita.accept(novo));
+                atual = novo;
+            } finally {
+                fila = null;
+                lock.writeLock().unlock();
+            }
+            ultimaSincronizacao = inicio;
+            log.info("Índice de tags carregado: {} projetos, {} tags", novo.ativos.getLongCardinality(), novo.porTag.size());
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                fila = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("Falha ao carregar o índice de tags; consultas continuam no MongoDB", e);
+        } finally {
+            carga.unlock();
+        }
+    }
+
+    private void aplicar(Consumer<Indice> escrita) {
+        lock.writeLock().lock();
+        try {
+            if (atual != null) {
+                escrita.accept(atual);
+            }
+            if (fila != null) {
+                fila.add(escrita);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private double tamanho(boolean tags) {
+        lock.readLock().lock();
+        try {
+            if (atual == null) {
+                return 0;
+            }
+            return tags ? atual.porTag.size() : atual.ativos.getLongCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean somenteTags(FiltroProjeto filtro) {
+        return filtro.getCategoria() == null && filtro.getCriadorId() == null && filtro.getStatus() == null
+                && filtro.getAtualizadoDesde() == null;
+    }
+
+    private static boolean temItens(Collection<?> valores) {
+        return valores != null && !valores.isEmpty();
+    }
+
+    private static final class Indice {
+
+        final Map<String, Integer> posicoes = new HashMap<>();
+        final List<String> ids = new ArrayList<>();
+        final List<String[]> tagsPorPosicao = new ArrayList<>();
+        final Map<String, RoaringBitmap> porTag = new HashMap<>();
+        final RoaringBitmap ativos = new RoaringBitmap();
+
+        void definir(String id, Collection<String> tags) {
+            Integer posicao = posicoes.get(id);
+            if (posicao == null) {
+                posicao = ids.size();
+                posicoes.put(id, posicao);
+                ids.add(id);
+                tagsPorPosicao.add(SEM_TAGS);
+            }
+
+            desindexar(posicao);
+            String[] novas = tags == null ? SEM_TAGS : tags.stream().distinct().toArray(String[]::new);
+            for (String tag : novas) {
+                porTag.computeIfAbsent(tag, t -> new RoaringBitmap()).add(posicao);
+            }
+            tagsPorPosicao.set(posicao, novas);
+            ativos.add(posicao);
+        }
+
+        // A posição não é reaproveitada: ids de projeto não se repetem
+        void remover(String id) {
+            Integer posicao = posicoes.get(id);
+            if (posicao != null) {
+                desindexar(posicao);
+                tagsPorPosicao.set(posicao, SEM_TAGS);
+                ativos.remove(posicao);
+            }
+        }
+
+        // (todas AND) AND (qualquer OR) AND NOT (excluídas OR); sempre devolve um bitmap novo
+        RoaringBitmap avaliar(FiltroProjeto filtro) {
+            RoaringBitmap resultado = ativos.clone();
+
+            if (temItens(filtro.getTagsTodas())) {
+                for (String tag : filtro.getTagsTodas()) {
+                    resultado.and(porTag.getOrDefault(tag, new RoaringBitmap()));
+                }
+            }
+            if (temItens(filtro.getTags())) {
+                resultado.and(uniao(filtro.getTags()));
+            }
+            if (temItens(filtro.getTagsExcluidas())) {
+                resultado.andNot(uniao(filtro.getTagsExcluidas()));
+            }
+            return resultado;
+        }
+
+        private RoaringBitmap uniao(Collection<String> tags) {
+            return RoaringBitmap.or(tags.stream()
+                    .map(porTag::get)
+                    .filter(Objects::nonNull)
+                    .iterator());
+        }
+
+        private void desindexar(int posicao) {
+            for (String tag : tagsPorPosicao.get(posicao)) {
+                RoaringBitmap projetos = porTag.get(tag);
+                projetos.remove(posicao);
+                if (projetos.isEmpty()) {
+                    porTag.remove(tag);
+                }
+            }
+        }
+    }
+}
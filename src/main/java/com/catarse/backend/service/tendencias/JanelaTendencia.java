@@ -0,0 +1,42 @@
+package com.catarse.backend.service.tendencias;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+// Janelas do ranking. A soma cobre os baldes inteiros da janela mais o balde corrente, então a
+// janela efetiva varia em até um balde (1 minuto na de 1h, 15 minutos na de 24h).
+public enum JanelaTendencia {
+
+    UMA_HORA("1h", Duration.ofMinutes(1), 60),
+    UM_DIA("24h", Duration.ofMinutes(15), 96);
+
+    private final String parametro;
+    private final long duracaoBaldeMs;
+    private final int baldes;
+
+    JanelaTendencia(String parametro, Duration duracaoBalde, int baldes) {
+        this.parametro = parametro;
+        this.duracaoBaldeMs = duracaoBalde.toMillis();
+        this.baldes = baldes;
+    }
+
+    public static JanelaTendencia de(String parametro) {
+        return Arrays.stream(values())
+                .filter(janela -> janela.parametro.equalsIgnoreCase(parametro))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Janela inválida: " + parametro + " (use 1h ou 24h)"));
+    }
+
+    int baldes() {
+        return baldes;
+    }
+
+    // Cobertura máxima da janela, incluindo o balde corrente
+    long duracaoMs() {
+        return duracaoBaldeMs * (baldes + 1L);
+    }
+
+    long balde(long instanteMs) {
+        return instanteMs / duracaoBaldeMs;
+    }
+}
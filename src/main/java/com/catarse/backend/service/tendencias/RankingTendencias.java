@@ -0,0 +1,278 @@
+package com.catarse.backend.service.tendencias;
+
+import com.catarse.backend.config.TendenciasProperties;
+import com.catarse.backend.model.ContadorTendencia;
+import com.catarse.backend.repository.ContadorTendenciaRepository;
+import com.catarse.backend.service.mudancas.ProjetoMudancaEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Projetos com mais doações na última hora e nas últimas 24h, servidos da memória. Cada doação soma
+// na série do projeto e reposiciona o projeto no top-K de cada janela; o recálculo periódico refaz os
+// rankings descontando os baldes que saíram da janela e descarta séries vazias. As séries alteradas
+// vão para o MongoDB a cada checkpoint e são recarregadas no início.
+// Cada instância conta as doações que ela mesma recebeu e, a cada checkpoint, lê os checkpoints das demais:
+// o ranking soma as duas partes, então todas as réplicas concordam com até um intervalo de checkpoint de atraso.
+@Slf4j
+@Component
+public class RankingTendencias {
+
+    public record Posicao(String projetoId, long centavos, long doacoes) {
+    }
+
+    private final ContadorTendenciaRepository repository;
+    private final TendenciasProperties properties;
+
+    private final Map<String, SerieDoacoes> series = new ConcurrentHashMap<>();
+    // Doações recebidas pelas outras instâncias, do último checkpoint delas; trocado inteiro a cada leitura
+    private volatile Map<String, SerieDoacoes> seriesOutras = new ConcurrentHashMap<>();
+    // Projetos alterados desde o último checkpoint
+    private final Set<String> alterados = ConcurrentHashMap.newKeySet();
+    // Trocado inteiro a cada recálculo; leituras não passam por lock
+    private volatile Map<JanelaTendencia, TopK> rankings;
+
+    public RankingTendencias(ContadorTendenciaRepository repository, TendenciasProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        this.rankings = novosRankings();
+
+        Gauge.builder("catarse.tendencias.projetos", series, Map::size)
+                .description("Projetos com doações nas janelas do ranking de tendências")
+                .register(meterRegistry);
+    }
+
+    public void registrar(String projetoId, long centavos) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long agora = System.currentTimeMillis();
+        // compute é atômico por chave: não disputa com o descarte de séries vazias no recálculo
+        SerieDoacoes serie = series.compute(projetoId, (id, atual) -> {
+            SerieDoacoes s = atual != null ? atual : new SerieDoacoes();
+            s.registrar(agora, centavos);
+            return s;
+        });
+        alterados.add(projetoId);
+
+        SerieDoacoes outras = seriesOutras.get(projetoId);
+        for (JanelaTendencia janela : JanelaTendencia.values()) {
+            rankings.get(janela).oferecer(posicao(projetoId, serie, outras, janela, agora));
+        }
+    }
+
+    public void remover(String projetoId) {
+        if (series.remove(projetoId) != null) {
+            alterados.add(projetoId);
+        }
+        seriesOutras.remove(projetoId);
+        rankings.values().forEach(ranking -> ranking.remover(projetoId));
+    }
+
+    public List<Posicao> listar(JanelaTendencia janela, int limite) {
+        List<Posicao> posicoes = rankings.get(janela).listar();
+        return posicoes.size() <= limite ? posicoes : posicoes.subList(0, limite);
+    }
+
+    @EventListener
+    public void aoMudar(ProjetoMudancaEvent mudanca) {
+        if (mudanca.tipo() == ProjetoMudancaEvent.Tipo.REMOVIDO) {
+            remover(mudanca.projetoId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long agora = System.currentTimeMillis();
+        List<String> expirados = new ArrayList<>();
+        for (ContadorTendencia contador : repository.carregar(properties.getInstancia())) {
+            // Soma ao que já chegou desde que o servidor passou a aceitar requisições
+            SerieDoacoes serie = series.compute(contador.getProjetoId(), (id, atual) -> {
+                SerieDoacoes s = atual != null ? atual : new SerieDoacoes();
+                restaurar(s, contador);
+                return s.vazia(agora) ? null : s;
+            });
+
+            if (serie == null) {
+                expirados.add(contador.getProjetoId());
+            }
+        }
+
+        repository.salvar(properties.getInstancia(), List.of(), expirados);
+        sincronizar();
+        recalcular();
+        log.info("Ranking de tendências carregado: {} projetos com doações recentes nesta instância, {} nas demais",
+                series.size(), seriesOutras.size());
+    }
+
+    @Scheduled(fixedDelayString = "${catarse.tendencias.intervalo-recalculo-ms:10000}")
+    public void recalcular() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long agora = System.currentTimeMillis();
+        Map<JanelaTendencia, TopK> novos = novosRankings();
+
+        Map<String, SerieDoacoes> outras = seriesOutras;
+        for (String projetoId : series.keySet()) {
+            SerieDoacoes serie = series.computeIfPresent(projetoId, (id, atual) -> atual.vazia(agora) ? null : atual);
+            if (serie == null) {
+                alterados.add(projetoId);
+            }
+            oferecer(novos, projetoId, serie, outras.get(projetoId), agora);
+        }
+        // Projetos que só receberam doações em outras instâncias
+        outras.forEach((projetoId, serie) -> {
+            if (!series.containsKey(projetoId)) {
+                oferecer(novos, projetoId, null, serie, agora);
+            }
+        });
+
+        // Uma doação registrada durante o recálculo pode ficar fora do ranking novo até o próximo ciclo
+        rankings = novos;
+    }
+
+    @Scheduled(fixedDelayString = "${catarse.tendencias.intervalo-checkpoint-ms:60000}",
+            initialDelayString = "${catarse.tendencias.intervalo-checkpoint-ms:60000}")
+    public void checkpoint() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        gravar();
+        sincronizar();
+    }
+
+    private void gravar() {
+        if (alterados.isEmpty()) {
+            return;
+        }
+
+        long agora = System.currentTimeMillis();
+        List<ContadorTendencia> contadores = new ArrayList<>();
+        List<String> removidos = new ArrayList<>();
+        for (String projetoId : List.copyOf(alterados)) {
+            alterados.remove(projetoId);
+
+            SerieDoacoes serie = series.get(projetoId);
+            if (serie == null) {
+                removidos.add(projetoId);
+                continue;
+            }
+
+            ContadorTendencia contador = new ContadorTendencia();
+            contador.setProjetoId(projetoId);
+            Map<String, List<ContadorTendencia.Balde>> janelas = new HashMap<>();
+            for (JanelaTendencia janela : JanelaTendencia.values()) {
+                janelas.put(janela.name(), serie.baldes(janela, agora));
+            }
+            contador.setJanelas(janelas);
+            contadores.add(contador);
+        }
+
+        try {
+            repository.salvar(properties.getInstancia(), contadores, removidos);
+            log.debug("Checkpoint de tendências: {} projetos gravados, {} removidos", contadores.size(), removidos.size());
+        } catch (RuntimeException e) {
+            // Volta para a lista: o próximo checkpoint tenta de novo
+            contadores.forEach(contador -> alterados.add(contador.getProjetoId()));
+            alterados.addAll(removidos);
+            log.warn("Falha ao gravar checkpoint de tendências: {}", e.getMessage());
+        }
+    }
+
+    // Refaz as séries das outras instâncias a partir dos checkpoints delas; em falha mantém as anteriores
+    private void sincronizar() {
+        long agora = System.currentTimeMillis();
+        long maiorJanelaMs = 0;
+        for (JanelaTendencia janela : JanelaTendencia.values()) {
+            maiorJanelaMs = Math.max(maiorJanelaMs, janela.duracaoMs());
+        }
+
+        try {
+            repository.removerAnteriores(Instant.ofEpochMilli(agora - maiorJanelaMs));
+
+            Map<String, SerieDoacoes> novas = new ConcurrentHashMap<>();
+            for (ContadorTendencia contador : repository.carregarOutras(properties.getInstancia())) {
+                // Baldes do mesmo projeto em instâncias diferentes se somam na mesma série
+                SerieDoacoes serie = novas.computeIfAbsent(contador.getProjetoId(), id -> new SerieDoacoes());
+                restaurar(serie, contador);
+            }
+            novas.values().removeIf(serie -> serie.vazia(agora));
+            seriesOutras = novas;
+        } catch (RuntimeException e) {
+            log.warn("Falha ao ler checkpoints de tendências das outras instâncias: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        if (properties.isEnabled()) {
+            gravar();
+        }
+    }
+
+    private static void oferecer(Map<JanelaTendencia, TopK> rankings, String projetoId, SerieDoacoes serie,
+                                 SerieDoacoes outras, long agora) {
+        rankings.forEach((janela, ranking) -> {
+            Posicao posicao = posicao(projetoId, serie, outras, janela, agora);
+            if (posicao.doacoes() > 0) {
+                ranking.oferecer(posicao);
+            }
+        });
+    }
+
+    // Soma desta instância com a das outras; qualquer das séries pode ser null
+    private static Posicao posicao(String projetoId, SerieDoacoes serie, SerieDoacoes outras,
+                                   JanelaTendencia janela, long agora) {
+        long centavos = 0;
+        long doacoes = 0;
+        for (SerieDoacoes s : new SerieDoacoes[]{serie, outras}) {
+            if (s != null) {
+                SerieDoacoes.Total total = s.total(janela, agora);
+                centavos += total.centavos();
+                doacoes += total.doacoes();
+            }
+        }
+        return new Posicao(projetoId, centavos, doacoes);
+    }
+
+    private static void restaurar(SerieDoacoes serie, ContadorTendencia contador) {
+        contador.getJanelas().forEach((nome, baldes) -> {
+            try {
+                serie.restaurar(JanelaTendencia.valueOf(nome), baldes);
+            } catch (IllegalArgumentException e) {
+                log.debug("Janela {} do checkpoint ignorada", nome);
+            }
+        });
+    }
+
+    private Map<JanelaTendencia, TopK> novosRankings() {
+        Map<JanelaTendencia, TopK> novos = new EnumMap<>(JanelaTendencia.class);
+        for (JanelaTendencia janela : JanelaTendencia.values()) {
+            novos.put(janela, new TopK(properties.getTamanhoRanking()));
+        }
+        return novos;
+    }
+}
@@ -0,0 +1,111 @@
+package com.catarse.backend.service.tendencias;
+
+import com.catarse.backend.model.ContadorTendencia;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Doações recentes de um projeto: um anel de baldes por janela. Cada posição guarda o índice absoluto
+// do balde, então posições de voltas anteriores são reconhecidas (e zeradas) sem varredura periódica.
+final class SerieDoacoes {
+
+    private static final JanelaTendencia[] JANELAS = JanelaTendencia.values();
+
+    private final Anel[] aneis = new Anel[JANELAS.length];
+
+    record Total(long centavos, long doacoes) {
+    }
+
+    SerieDoacoes() {
+        for (JanelaTendencia janela : JANELAS) {
+            aneis[janela.ordinal()] = new Anel(janela.baldes());
+        }
+    }
+
+    synchronized void registrar(long instanteMs, long centavos) {
+        for (JanelaTendencia janela : JANELAS) {
+            aneis[janela.ordinal()].somar(janela.balde(instanteMs), centavos, 1);
+        }
+    }
+
+    synchronized Total total(JanelaTendencia janela, long instanteMs) {
+        return aneis[janela.ordinal()].total(janela.balde(instanteMs));
+    }
+
+    // Sem doações em nenhuma janela: a série pode ser descartada
+    synchronized boolean vazia(long instanteMs) {
+        for (JanelaTendencia janela : JANELAS) {
+            if (aneis[janela.ordinal()].total(janela.balde(instanteMs)).doacoes() > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    synchronized List<ContadorTendencia.Balde> baldes(JanelaTendencia janela, long instanteMs) {
+        return aneis[janela.ordinal()].baldes(janela.balde(instanteMs));
+    }
+
+    synchronized void restaurar(JanelaTendencia janela, List<ContadorTendencia.Balde> baldes) {
+        for (ContadorTendencia.Balde balde : baldes) {
+            aneis[janela.ordinal()].somar(balde.getIndice(), balde.getCentavos(), balde.getDoacoes());
+        }
+    }
+
+    private static final class Anel {
+
+        private final long[] indices;
+        private final long[] centavos;
+        private final long[] doacoes;
+
+        Anel(int tamanho) {
+            indices = new long[tamanho];
+            centavos = new long[tamanho];
+            doacoes = new long[tamanho];
+            Arrays.fill(indices, Long.MIN_VALUE);
+        }
+
+        void somar(long indice, long valor, long quantidade) {
+            int posicao = (int) Math.floorMod(indice, (long) indices.length);
+            if (indices[posicao] != indice) {
+                // Posição já ocupada por um balde mais novo: este saiu da janela
+                if (indices[posicao] > indice) {
+                    return;
+                }
+                // Posição de uma volta anterior: recomeça
+                indices[posicao] = indice;
+                centavos[posicao] = 0;
+                doacoes[posicao] = 0;
+            }
+            centavos[posicao] += valor;
+            doacoes[posicao] += quantidade;
+        }
+
+        Total total(long atual) {
+            long somaCentavos = 0;
+            long somaDoacoes = 0;
+            for (int i = 0; i < indices.length; i++) {
+                if (valido(indices[i], atual)) {
+                    somaCentavos += centavos[i];
+                    somaDoacoes += doacoes[i];
+                }
+            }
+            return new Total(somaCentavos, somaDoacoes);
+        }
+
+        List<ContadorTendencia.Balde> baldes(long atual) {
+            List<ContadorTendencia.Balde> baldes = new ArrayList<>();
+            for (int i = 0; i < indices.length; i++) {
+                if (valido(indices[i], atual) && doacoes[i] > 0) {
+                    baldes.add(new ContadorTendencia.Balde(indices[i], centavos[i], doacoes[i]));
+                }
+            }
+            return baldes;
+        }
+
+        private boolean valido(long indice, long atual) {
+            return indice <= atual && indice > atual - indices.length;
+        }
+    }
+}
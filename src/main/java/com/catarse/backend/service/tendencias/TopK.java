@@ -0,0 +1,78 @@
+package com.catarse.backend.service.tendencias;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// Os K projetos de maior valor em uma janela: heap mínimo (o menor sai quando chega um maior) e um
+// mapa para achar e reposicionar um projeto que já está no heap. Correto enquanto os valores só
+// crescem, que é o caso entre dois recálculos; a saída de baldes da janela fica com o recálculo.
+final class TopK {
+
+    // Menor primeiro: valor, depois número de doações, depois id (ordem total e estável)
+    static final Comparator<RankingTendencias.Posicao> MENOR = Comparator
+            .comparingLong(RankingTendencias.Posicao::centavos)
+            .thenComparingLong(RankingTendencias.Posicao::doacoes)
+            .thenComparing(RankingTendencias.Posicao::projetoId, Comparator.reverseOrder());
+
+    private final int capacidade;
+    private final PriorityQueue<RankingTendencias.Posicao> heap;
+    private final Map<String, RankingTendencias.Posicao> presentes = new HashMap<>();
+
+    // Lista de leitura, refeita na primeira leitura após uma alteração
+    private volatile List<RankingTendencias.Posicao> ordenada = List.of();
+
+    TopK(int capacidade) {
+        this.capacidade = capacidade;
+        this.heap = new PriorityQueue<>(capacidade + 1, MENOR);
+    }
+
+    synchronized void oferecer(RankingTendencias.Posicao posicao) {
+        RankingTendencias.Posicao anterior = presentes.remove(posicao.projetoId());
+        if (anterior != null) {
+            heap.remove(anterior);
+        }
+
+        if (heap.size() < capacidade) {
+            adicionar(posicao);
+        } else if (MENOR.compare(posicao, heap.peek()) > 0) {
+            presentes.remove(heap.poll().projetoId());
+            adicionar(posicao);
+        } else if (anterior == null) {
+            return;
+        }
+        ordenada = null;
+    }
+
+    synchronized void remover(String projetoId) {
+        RankingTendencias.Posicao anterior = presentes.remove(projetoId);
+        if (anterior != null) {
+            heap.remove(anterior);
+            ordenada = null;
+        }
+    }
+
+    List<RankingTendencias.Posicao> listar() {
+        List<RankingTendencias.Posicao> lista = ordenada;
+        if (lista != null) {
+            return lista;
+        }
+
+        synchronized (this) {
+            if (ordenada == null) {
+                List<RankingTendencias.Posicao> posicoes = new ArrayList<>(heap);
+                posicoes.sort(MENOR.reversed());
+                ordenada = List.copyOf(posicoes);
+            }
+            return ordenada;
+        }
+    }
+
+    private void adicionar(RankingTendencias.Posicao posicao) {
+        heap.add(posicao);
+        presentes.put(posicao.projetoId(), posicao);
+    }
+}
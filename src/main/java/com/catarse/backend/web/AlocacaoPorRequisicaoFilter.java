@@ -0,0 +1,52 @@
+package com.catarse.backend.web;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+// Diagnóstico usado pelos testes de carga: bytes alocados pela thread que atendeu cada requisição.
+// Só na pilha servlet com threads de plataforma; no WebFlux as requisições se intercalam nas threads do
+// Netty e não têm uma thread própria para medir, então lá o teste de carga usa a alocação do processo
+@Component
+@ConditionalOnProperty(name = "catarse.diagnostico.alocacao.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class AlocacaoPorRequisicaoFilter extends OncePerRequestFilter {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long antes = THREADS.getCurrentThreadAllocatedBytes();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long depois = THREADS.getCurrentThreadAllocatedBytes();
+
+            // -1 quando a JVM não mede alocação para o tipo de thread (por exemplo, threads virtuais)
+            if (antes >= 0 && depois >= antes) {
+                Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                DistributionSummary.builder("catarse.http.alocacao")
+                        .baseUnit("bytes")
+                        .tag("uri", padrao != null ? padrao.toString() : "UNKNOWN")
+                        .tag("method", request.getMethod())
+                        .register(meterRegistry)
+                        .record(depois - antes);
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.catarse.backend.web;
+
+import com.catarse.backend.dto.Versionado;
+import org.springframework.data.domain.Page;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// ETags fortes a partir do campo versao, que toda escrita em ProjetoRepositoryImpl incrementa
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String projeto(long versao) {
+        return "\"v" + versao + "\"";
+    }
+
+    // Página: muda quando qualquer item muda de versão, entra ou sai, ou quando o total muda
+    public static String pagina(Page<? extends Versionado> pagina) {
+        MessageDigest digest = sha256();
+        ByteBuffer numeros = ByteBuffer.allocate(Long.BYTES);
+
+        digest.update(numeros.putLong(0, pagina.getTotalElements()).array());
+        for (Versionado item : pagina.getContent()) {
+            digest.update(item.getId().getBytes(StandardCharsets.UTF_8));
+            digest.update(numeros.putLong(0, item.getVersao()).array());
+        }
+
+        return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.catarse.backend.web.limite;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Token bucket na forma de GCRA: o estado é só o instante teórico da próxima chegada, atualizado por
+// CAS, sem lock. Cada requisição adianta esse instante em um intervalo; ela é recusada quando ele
+// passaria de "agora" mais que a capacidade inteira do balde.
+final class BaldeTokens {
+
+    private final long intervaloNanos;
+    private final long capacidadeNanos;
+    private final AtomicLong proximaChegada = new AtomicLong(Long.MIN_VALUE);
+
+    BaldeTokens(long intervaloNanos, long capacidadeNanos) {
+        this.intervaloNanos = intervaloNanos;
+        this.capacidadeNanos = capacidadeNanos;
+    }
+
+    // 0 se há ficha; senão, quantos nanossegundos até a próxima
+    long consumir(long agora) {
+        while (true) {
+            long atual = proximaChegada.get();
+            long nova = Math.max(atual, agora) + intervaloNanos;
+            long excesso = nova - agora - capacidadeNanos;
+            if (excesso > 0) {
+                return excesso;
+            }
+            if (proximaChegada.compareAndSet(atual, nova)) {
+                return 0;
+            }
+        }
+    }
+
+    // Desfaz um consumir() que retornou 0
+    void devolver() {
+        proximaChegada.addAndGet(-intervaloNanos);
+    }
+}
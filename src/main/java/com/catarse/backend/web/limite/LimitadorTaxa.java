@@ -0,0 +1,39 @@
+package com.catarse.backend.web.limite;
+
+import com.catarse.backend.config.LimiteProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Um balde por chave (cliente ou projeto). O Caffeine é concorrente e particionado internamente, então
+// chaves diferentes não disputam nada; um balde ocioso pelo tempo de reposição completa está cheio
+// e pode ser descartado sem mudar o resultado.
+final class LimitadorTaxa {
+
+    private final long intervaloNanos;
+    private final long capacidadeNanos;
+    private final Cache<String, BaldeTokens> baldes;
+
+    LimitadorTaxa(LimiteProperties.Balde config, long maximoChaves) {
+        this.intervaloNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / config.getReposicaoPorSegundo()));
+        this.capacidadeNanos = intervaloNanos * Math.max(1, config.getCapacidade());
+        this.baldes = Caffeine.newBuilder()
+                .maximumSize(maximoChaves)
+                .expireAfterAccess(Duration.ofNanos(Math.max(capacidadeNanos, TimeUnit.SECONDS.toNanos(1))))
+                .build();
+    }
+
+    long consumir(String chave, long agora) {
+        return baldes.get(chave, k -> new BaldeTokens(intervaloNanos, capacidadeNanos)).consumir(agora);
+    }
+
+    // Devolve a ficha de um consumir() bem-sucedido cuja requisição acabou recusada em outra etapa
+    void devolver(String chave) {
+        BaldeTokens balde = baldes.getIfPresent(chave);
+        if (balde != null) {
+            balde.devolver();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.catarse.backend.web.limite;
+
+import com.catarse.backend.config.LimiteProperties;
+import com.catarse.backend.metrics.LatenciaMongo;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Limite adaptativo de requisições simultâneas (AIMD). A cada intervalo, quem liberar a permissão e
+// ganhar o CAS do próximo ajuste reavalia: com o MongoDB acima da latência alvo o limite cai
+// multiplicativamente; abaixo dela, sobe uma unidade se a demanda chegou ao limite no intervalo.
+final class LimiteConcorrencia {
+
+    private final LatenciaMongo latencia;
+    private final long latenciaAlvoNanos;
+    private final long intervaloAjusteNanos;
+    private final int minimo;
+    private final int maximo;
+    private final double fatorReducao;
+
+    private final AtomicInteger emUso = new AtomicInteger();
+    private final AtomicBoolean saturado = new AtomicBoolean();
+    private final AtomicLong proximoAjuste;
+    private volatile int limite;
+
+    LimiteConcorrencia(LimiteProperties.Concorrencia config, LatenciaMongo latencia) {
+        this.latencia = latencia;
+        this.latenciaAlvoNanos = config.getLatenciaAlvo().toNanos();
+        this.intervaloAjusteNanos = config.getIntervaloAjuste().toNanos();
+        this.minimo = Math.max(1, config.getMinimo());
+        this.maximo = Math.max(this.minimo, config.getMaximo());
+        this.fatorReducao = config.getFatorReducao();
+        this.limite = Math.clamp(config.getInicial(), this.minimo, this.maximo);
+        this.proximoAjuste = new AtomicLong(System.nanoTime() + intervaloAjusteNanos);
+    }
+
+    boolean adquirir() {
+        while (true) {
+            int atual = emUso.get();
+            if (atual >= limite) {
+                saturado.set(true);
+                return false;
+            }
+            if (emUso.compareAndSet(atual, atual + 1)) {
+                if (atual + 1 == limite) {
+                    saturado.set(true);
+                }
+                return true;
+            }
+        }
+    }
+
+    void liberar() {
+        emUso.decrementAndGet();
+        ajustar(System.nanoTime());
+    }
+
+    int limite() {
+        return limite;
+    }
+
+    int emUso() {
+        return emUso.get();
+    }
+
+    private void ajustar(long agora) {
+        long previsto = proximoAjuste.get();
+        if (agora - previsto < 0 || !proximoAjuste.compareAndSet(previsto, agora + intervaloAjusteNanos)) {
+            return;
+        }
+
+        int atual = limite;
+        boolean chegouAoLimite = saturado.getAndSet(false);
+        if (latencia.mediaNanos() > latenciaAlvoNanos) {
+            limite = Math.max(minimo, (int) (atual * fatorReducao));
+        } else if (chegouAoLimite) {
+            limite = Math.min(maximo, atual + 1);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.catarse.backend.web.limite;
+
+import com.catarse.backend.config.LimiteProperties;
+import com.catarse.backend.exception.LimiteExcedidoException;
+import com.catarse.backend.exception.LimiteExcedidoException.Motivo;
+import com.catarse.backend.metrics.LatenciaMongo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Protege o MongoDB de rajadas de escrita: taxa por cliente, taxa de doações por projeto e um limite
+// adaptativo de escritas simultâneas. Leituras não passam por aqui; são elas que o limite preserva.
+public class LimiteRequisicoesInterceptor implements HandlerInterceptor {
+
+    private static final Set<String> ESCRITAS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final String PERMISSAO = LimiteRequisicoesInterceptor.class.getName() + ".permissao";
+    private static final String PADRAO_DOACAO = "/projetos/{id}/doacao";
+    private static final long ESPERA_SOBRECARGA_SEGUNDOS = 1;
+
+    private final LimitadorTaxa porCliente;
+    private final LimitadorTaxa porProjeto;
+    private final LimiteConcorrencia concorrencia;
+
+    private final Counter admitidas;
+    private final Map<Motivo, Counter> rejeitadas = new EnumMap<>(Motivo.class);
+
+    public LimiteRequisicoesInterceptor(LimiteProperties properties, LatenciaMongo latenciaMongo,
+                                        MeterRegistry meterRegistry) {
+        this.porCliente = new LimitadorTaxa(properties.getCliente(), properties.getMaximoChaves());
+        this.porProjeto = new LimitadorTaxa(properties.getProjeto(), properties.getMaximoChaves());
+        this.concorrencia = properties.getConcorrencia().isEnabled()
+                ? new LimiteConcorrencia(properties.getConcorrencia(), latenciaMongo)
+                : null;
+
+        this.admitidas = Counter.builder("catarse.limite.requisicoes")
+                .description("Escritas admitidas ou rejeitadas pelo limitador")
+                .tag("resultado", "admitida")
+                .tag("motivo", "nenhum")
+                .register(meterRegistry);
+        for (Motivo motivo : Motivo.values()) {
+            rejeitadas.put(motivo, Counter.builder("catarse.limite.requisicoes")
+                    .description("Escritas admitidas ou rejeitadas pelo limitador")
+                    .tag("resultado", "rejeitada")
+                    .tag("motivo", motivo.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+
+        Gauge.builder("catarse.limite.mongo.latencia", latenciaMongo, l -> l.mediaNanos() / TimeUnit.SECONDS.toNanos(1))
+                .description("Média móvel da duração dos comandos do MongoDB usada no ajuste do limite")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        if (concorrencia != null) {
+            Gauge.builder("catarse.limite.concorrencia", concorrencia, LimiteConcorrencia::limite)
+                    .description("Escritas simultâneas permitidas no momento")
+                    .register(meterRegistry);
+            Gauge.builder("catarse.limite.concorrencia.em_uso", concorrencia, LimiteConcorrencia::emUso)
+                    .description("Escritas em andamento")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!ESCRITAS.contains(request.getMethod())) {
+            return true;
+        }
+
+        long agora = System.nanoTime();
+        // Uma requisição recusada não gasta ficha: o projeto é conferido antes do cliente e as fichas já
+        // tiradas voltam quando uma etapa seguinte recusa
+        String projeto = projetoDaDoacao(request);
+        long espera;
+        if (projeto != null && (espera = porProjeto.consumir(projeto, agora)) > 0) {
+            throw rejeitar(Motivo.PROJETO, espera, "Muitas doações simultâneas para este projeto");
+        }
+
+        // server.forward-headers-strategy faz do remoteAddr o endereço do cliente por trás do balanceador
+        String cliente = request.getRemoteAddr();
+        espera = porCliente.consumir(cliente, agora);
+        if (espera > 0) {
+            if (projeto != null) {
+                porProjeto.devolver(projeto);
+            }
+            throw rejeitar(Motivo.CLIENTE, espera, "Muitas requisições deste cliente");
+        }
+
+        if (concorrencia != null) {
+            if (!concorrencia.adquirir()) {
+                porCliente.devolver(cliente);
+                if (projeto != null) {
+                    porProjeto.devolver(projeto);
+                }
+                throw rejeitar(Motivo.SOBRECARGA, TimeUnit.SECONDS.toNanos(ESPERA_SOBRECARGA_SEGUNDOS),
+                        "Serviço sobrecarregado, tente novamente em instantes");
+            }
+            request.setAttribute(PERMISSAO, Boolean.TRUE);
+        }
+
+        admitidas.increment();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(PERMISSAO) != null) {
+            request.removeAttribute(PERMISSAO);
+            concorrencia.liberar();
+        }
+    }
+
+    private LimiteExcedidoException rejeitar(Motivo motivo, long esperaNanos, String mensagem) {
+        rejeitadas.get(motivo).increment();
+        long segundos = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(esperaNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        return new LimiteExcedidoException(motivo, segundos, mensagem);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String projetoDaDoacao(HttpServletRequest request) {
+        if (!PADRAO_DOACAO.equals(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE))) {
+            return null;
+        }
+
+        Map<String, String> variaveis =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return variaveis != null ? variaveis.get("id") : null;
+    }
+}
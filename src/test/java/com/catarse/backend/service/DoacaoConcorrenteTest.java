@@ -0,0 +1,179 @@
+package com.catarse.backend.service;
+
+import com.catarse.backend.exception.DoacaoRecusadaException;
+import com.catarse.backend.model.Projeto;
+import com.catarse.backend.repository.ProjetoRepository;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Doações paralelas no mesmo projeto: nenhuma pode se perder nem ser somada duas vezes
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "catarse.doacao.modo=atomico",
+                "catarse.finalizacao.enabled=false",
+                "catarse.indice-tags.enabled=false",
+                "catarse.tendencias.enabled=false"
+        })
+class DoacaoConcorrenteTest {
+
+    private static final int DOACOES = 5000;
+    private static final int THREADS = 64;
+
+    private static TransitionWalker.ReachedState<RunningMongodProcess> mongod;
+    private static MongoServer mongoEmMemoria;
+    private static String uriMongo;
+
+    @Autowired
+    private ProjetoService projetoService;
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    // MONGODB_URI_TESTE aponta para um mongod existente; sem ela sobe um embutido. Sem acesso ao binário
+    // (ambiente offline sem cache em ~/.embedmongo) usa o servidor em memória do mongo-java-server: cobre o
+    // código da aplicação, mas não a atomicidade do próprio mongod, que só o mongod real verifica
+    @BeforeAll
+    static void iniciarMongo() {
+        uriMongo = System.getenv("MONGODB_URI_TESTE");
+        if (uriMongo != null) {
+            return;
+        }
+
+        try {
+            mongod = Mongod.instance().start(Version.Main.V7_0);
+            uriMongo = "mongodb://" + mongod.current().getServerAddress();
+        } catch (RuntimeException e) {
+            mongoEmMemoria = new MongoServer(new MemoryBackend());
+            uriMongo = mongoEmMemoria.bindAndGetConnectionString();
+        }
+    }
+
+    @DynamicPropertySource
+    static void mongo(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", () -> uriMongo);
+        registry.add("spring.data.mongodb.database", () -> "catarse-teste");
+    }
+
+    @AfterAll
+    static void pararMongo() {
+        if (mongod != null) {
+            mongod.close();
+        }
+        if (mongoEmMemoria != null) {
+            mongoEmMemoria.shutdownNow();
+        }
+    }
+
+    @Test
+    void somaTodasAsDoacoesParalelas() throws Exception {
+        Projeto projeto = criarProjeto(Long.MAX_VALUE / 2);
+
+        List<Long> valores = valoresAleatorios();
+        List<Future<Boolean>> resultados = doarEmParalelo(projeto.getId(), valores);
+
+        long soma = 0;
+        for (int i = 0; i < valores.size(); i++) {
+            Assertions.assertTrue(resultados.get(i).get(), "Doação recusada sem meta atingida");
+            soma += valores.get(i);
+        }
+
+        Projeto atual = projetoRepository.findById(projeto.getId()).orElseThrow();
+        Assertions.assertEquals(soma, atual.getValorArrecadado());
+        Assertions.assertEquals(Projeto.StatusProjeto.EM_ANDAMENTO, atual.getStatus());
+    }
+
+    @Test
+    void somaApenasAsAceitasQuandoAMetaEAtingida() throws Exception {
+        List<Long> valores = valoresAleatorios();
+        long total = valores.stream().mapToLong(Long::longValue).sum();
+        // Meta na metade: parte das doações chega depois da conclusão e precisa ser recusada
+        Projeto projeto = criarProjeto(total / 2);
+
+        List<Future<Boolean>> resultados = doarEmParalelo(projeto.getId(), valores);
+
+        long somaAceitas = 0;
+        int recusadas = 0;
+        for (int i = 0; i < valores.size(); i++) {
+            if (resultados.get(i).get()) {
+                somaAceitas += valores.get(i);
+            } else {
+                recusadas++;
+            }
+        }
+
+        Projeto atual = projetoRepository.findById(projeto.getId()).orElseThrow();
+        Assertions.assertEquals(somaAceitas, atual.getValorArrecadado());
+        Assertions.assertEquals(Projeto.StatusProjeto.CONCLUIDO, atual.getStatus());
+        Assertions.assertTrue(atual.getValorArrecadado() >= projeto.getMetaFinanceira());
+        Assertions.assertTrue(recusadas > 0, "Nenhuma doação recusada após a conclusão");
+    }
+
+    private Projeto criarProjeto(long metaCentavos) {
+        return projetoRepository.criar(Projeto.builder()
+                .titulo("Concorrência " + UUID.randomUUID())
+                .descricao("Projeto de teste de doações concorrentes")
+                .categoria("teste")
+                .metaFinanceira(metaCentavos)
+                .dataLimite(LocalDate.now().plusDays(30))
+                .criadorId("teste")
+                .tags(List.of("teste"))
+                .status(Projeto.StatusProjeto.EM_ANDAMENTO)
+                .build());
+    }
+
+    private static List<Long> valoresAleatorios() {
+        List<Long> valores = new ArrayList<>(DOACOES);
+        for (int i = 0; i < DOACOES; i++) {
+            valores.add(ThreadLocalRandom.current().nextLong(1, 100_000));
+        }
+        return valores;
+    }
+
+    // true quando a doação foi aceita; recusas por status/prazo viram false, qualquer outro erro falha o teste
+    private List<Future<Boolean>> doarEmParalelo(String projetoId, List<Long> valores) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<Boolean>> resultados = new ArrayList<>(valores.size());
+        try {
+            for (long centavos : valores) {
+                resultados.add(executor.submit(() -> {
+                    largada.await();
+                    try {
+                        projetoService.adicionarDoacao(projetoId, BigDecimal.valueOf(centavos, 2), null);
+                        return true;
+                    } catch (DoacaoRecusadaException e) {
+                        return false;
+                    }
+                }));
+            }
+            largada.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        return resultados;
+    }
+}